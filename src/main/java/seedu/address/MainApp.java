@@ -1,12 +1,14 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
@@ -23,8 +25,11 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.LazyVisitHistoryStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -57,8 +62,12 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage snapshotStorage = initSnapshotStorage(userPrefs);
+        if (userPrefs.isLazyVisitHistories()) {
+            snapshotStorage = new LazyVisitHistoryStorage(snapshotStorage);
+        }
+        AddressBookStorage addressBookStorage = new JournaledAddressBookStorage(snapshotStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, true);
 
         model = initModelManager(storage, userPrefs);
 
@@ -67,6 +76,20 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage for the address book snapshot in the format chosen in {@code userPrefs}.
+     */
+    private AddressBookStorage initSnapshotStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFormat().toDataFilePath(userPrefs.getAddressBookFilePath());
+        switch (userPrefs.getAddressBookFormat()) {
+        case BINARY:
+            return new BinaryAddressBookStorage(addressBookFilePath);
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(addressBookFilePath);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -78,7 +101,7 @@ public class MainApp extends Application {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
-            addressBookOptional = storage.readAddressBook();
+            addressBookOptional = readLatestAddressBook(storage, userPrefs);
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
@@ -93,6 +116,47 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Reads the address book from {@code storage}, unless the data file of another format was saved more recently,
+     * as it is right after the format in {@code userPrefs} is changed. That file is read instead, whichever format it
+     * is in, and the first save then writes the address book in the chosen format.
+     */
+    private Optional<ReadOnlyAddressBook> readLatestAddressBook(Storage storage, ReadOnlyUserPrefs userPrefs)
+            throws DataLoadingException {
+        Path dataFilePath = storage.getAddressBookFilePath();
+        for (AddressBookFormat format : AddressBookFormat.values()) {
+            Path otherDataFilePath = format.toDataFilePath(userPrefs.getAddressBookFilePath());
+            if (!otherDataFilePath.equals(dataFilePath) && isSavedLater(otherDataFilePath, dataFilePath)) {
+                logger.info("Reading the more recently saved data file " + otherDataFilePath);
+                return new JournaledAddressBookStorage(new JsonAddressBookStorage(otherDataFilePath)).readAddressBook();
+            }
+        }
+        return storage.readAddressBook();
+    }
+
+    /**
+     * Returns true if the data file at {@code filePath} exists and was saved after the one at {@code otherFilePath},
+     * counting the journals next to them.
+     */
+    private static boolean isSavedLater(Path filePath, Path otherFilePath) {
+        try {
+            return Files.exists(filePath)
+                    && (!Files.exists(otherFilePath) || lastSavedTime(filePath) > lastSavedTime(otherFilePath));
+        } catch (IOException ioe) {
+            logger.warning("Could not compare data files " + filePath + " and " + otherFilePath + ": " + ioe);
+            return false;
+        }
+    }
+
+    private static long lastSavedTime(Path dataFilePath) throws IOException {
+        Path journalPath = dataFilePath.resolveSibling(
+                dataFilePath.getFileName() + JournaledAddressBookStorage.JOURNAL_FILE_SUFFIX);
+        long savedTime = Files.getLastModifiedTime(dataFilePath).toMillis();
+        return Files.exists(journalPath)
+                ? Math.max(savedTime, Files.getLastModifiedTime(journalPath).toMillis())
+                : savedTime;
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -182,5 +246,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -0,0 +1,48 @@
+package seedu.address.commons.core;
+
+import java.nio.file.Path;
+
+/**
+ * File formats in which the address book data file can be stored.
+ * Each format has its own file extension, so the data file's name tells which format it is in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable JSON, suitable for interchange with other tools. */
+    JSON(".json"),
+    /** Compact binary format that is smaller and faster to load. */
+    BINARY(".bin");
+
+    private final String fileExtension;
+
+    AddressBookFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns true if the name of {@code filePath} ends with this format's file extension.
+     */
+    public boolean hasFileExtension(Path filePath) {
+        Path fileName = filePath.getFileName();
+        return fileName != null && fileName.toString().endsWith(fileExtension);
+    }
+
+    /**
+     * Returns the path of the data file in this format, given the address book file path in the preferences.
+     * That path is the JSON data file, so other formats replace its JSON extension, if any, with their own.
+     */
+    public Path toDataFilePath(Path addressBookFilePath) {
+        if (this == JSON) {
+            return addressBookFilePath;
+        }
+
+        String fileName = addressBookFilePath.getFileName().toString();
+        String baseName = JSON.hasFileExtension(addressBookFilePath)
+                ? fileName.substring(0, fileName.length() - JSON.fileExtension.length())
+                : fileName;
+        return addressBookFilePath.resolveSibling(baseName + fileExtension);
+    }
+}
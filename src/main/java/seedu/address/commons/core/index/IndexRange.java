@@ -0,0 +1,76 @@
+package seedu.address.commons.core.index;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents a range of indexes from a start {@code Index} to an end {@code Index}, inclusive.
+ * The range is kept as its two ends, so a wide range does not take more space than a narrow one.
+ */
+public class IndexRange {
+
+    public static final String MESSAGE_CONSTRAINTS = "The start of a range must not be after its end.";
+
+    private final Index start;
+    private final Index end;
+
+    /**
+     * Creates the range from {@code start} to {@code end}, inclusive.
+     * {@code start} must not be after {@code end}.
+     */
+    public IndexRange(Index start, Index end) {
+        requireAllNonNull(start, end);
+        checkArgument(start.getZeroBased() <= end.getZeroBased(), MESSAGE_CONSTRAINTS);
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Creates the range that only contains {@code index}.
+     */
+    public static IndexRange of(Index index) {
+        return new IndexRange(index, index);
+    }
+
+    public Index getStart() {
+        return start;
+    }
+
+    public Index getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns true if every index in this range is valid in a list of {@code size} elements.
+     */
+    public boolean isWithin(int size) {
+        return end.getZeroBased() < size;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexRange)) {
+            return false;
+        }
+
+        IndexRange otherIndexRange = (IndexRange) other;
+        return start.equals(otherIndexRange.start) && end.equals(otherIndexRange.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * start.getZeroBased() + end.getZeroBased();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("start", start).add("end", end).toString();
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Replaces the content of files without ever leaving them half-written.
+ * <p>
+ * The new content is streamed into a temporary file next to the target, forced to the device, and then renamed
+ * over the target in one atomic step, so after a crash the target holds either its old or its new content.
+ * The temporary file is created like any new file, and takes on the permissions of the target it replaces, so
+ * saving does not change who can read the file.
+ * Content goes through a fixed-size buffer that is kept for the lifetime of the writer, so saving a large file
+ * does not allocate memory proportional to its size.
+ */
+public class AtomicFileWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String POSIX_ATTRIBUTE_VIEW = "posix";
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    /**
+     * Writes content to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Replaces the content of {@code file} with what {@code content} writes, creating the file and its missing
+     * parent directories if needed. If writing fails, {@code file} is left untouched.
+     */
+    public synchronized void write(Path file, ContentWriter content) throws IOException {
+        requireNonNull(file);
+        requireNonNull(content);
+
+        Path target = file.toAbsolutePath();
+        Path directory = target.getParent();
+        FileUtil.createParentDirsOfFile(target);
+
+        Path tempFile = createTempFile(target);
+        try {
+            copyPermissions(target, tempFile);
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                ChannelOutputStream out = new ChannelOutputStream(channel);
+                content.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            moveAtomically(tempFile, target);
+            forceDirectory(directory);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Creates an empty temporary file next to {@code target}.
+     * Unlike {@link Files#createTempFile}, which makes the file readable by its owner only, the file gets the same
+     * default permissions as any other new file.
+     */
+    private static Path createTempFile(Path target) throws IOException {
+        while (true) {
+            Path tempFile = target.resolveSibling("." + target.getFileName() + "."
+                    + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + TEMP_FILE_SUFFIX);
+            try {
+                return Files.createFile(tempFile);
+            } catch (FileAlreadyExistsException e) {
+                // Try another name.
+            }
+        }
+    }
+
+    /**
+     * Gives {@code tempFile} the permissions of {@code target}, if it exists and the file system has POSIX
+     * permissions.
+     */
+    private static void copyPermissions(Path target, Path tempFile) throws IOException {
+        if (!Files.exists(target)
+                || !target.getFileSystem().supportedFileAttributeViews().contains(POSIX_ATTRIBUTE_VIEW)) {
+            return;
+        }
+        Files.setPosixFilePermissions(tempFile, Files.getPosixFilePermissions(target));
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the directory entry of a rename to the device, where the platform allows opening a directory.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Not supported on every platform (e.g. Windows); the rename itself is still atomic.
+        }
+    }
+
+    /**
+     * Writes to a channel through the writer's reusable buffer.
+     * Closing the stream flushes the buffer but leaves the channel open.
+     */
+    private class ChannelOutputStream extends OutputStream {
+        private final FileChannel channel;
+
+        ChannelOutputStream(FileChannel channel) {
+            this.channel = channel;
+            buffer.clear();
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int chunk = Math.min(length, buffer.remaining());
+                buffer.put(bytes, offset, chunk);
+                offset += chunk;
+                length -= chunk;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
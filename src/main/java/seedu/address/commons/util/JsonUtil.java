@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,7 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -101,6 +104,24 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Returns a streaming {@code JsonParser} over {@code in}.
+     * The parser shares this class's configuration, so values read through {@link #readValue(JsonParser, Class)}
+     * are deserialized the same way as in {@link #fromJsonString(String, Class)}.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        requireNonNull(in);
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Reads the JSON value at the current position of {@code parser} into an instance of {@code instanceClass}.
+     * The parser is left on the last token of that value.
+     */
+    public static <T> T readValue(JsonParser parser, Class<T> instanceClass) throws IOException {
+        return objectMapper.readValue(parser, instanceClass);
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -111,6 +132,25 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Writes the JSON data representation of {@code instance} to {@code out}, formatted as in
+     * {@link #toJsonString(Object)}. The output is streamed, so no string of the whole document is built.
+     */
+    public static <T> void writeJson(T instance, OutputStream out) throws IOException {
+        requireNonNull(out);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, instance);
+    }
+
+    /**
+     * Converts a given instance of a class into a single-line JSON string, without pretty printing.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return compact JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
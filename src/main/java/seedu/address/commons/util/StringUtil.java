@@ -5,7 +5,6 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
 
 /**
  * Helper functions for handling strings.
@@ -26,16 +25,122 @@ public class StringUtil {
     public static boolean containsWordIgnoreCase(String sentence, String word) {
         requireNonNull(sentence);
         requireNonNull(word);
+        int wordStart = trimmedStart(word);
+        int wordEnd = trimmedEnd(word);
+        checkWord(word, wordStart, wordEnd);
 
-        String preppedWord = word.trim();
-        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        int wordLength = wordEnd - wordStart;
+        int i = 0;
+        while (i < sentence.length()) {
+            if (isWhitespace(sentence.charAt(i))) {
+                i++;
+                continue;
+            }
+            int tokenStart = i;
+            while (i < sentence.length() && !isWhitespace(sentence.charAt(i))) {
+                i++;
+            }
+            if (i - tokenStart == wordLength && sentence.regionMatches(true, tokenStart, word, wordStart, wordLength)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if one of {@code words} is {@code word}, ignoring case.
+     * Matches the same words as {@link #containsWordIgnoreCase(String, String)} does in the sentence that
+     * {@code words} were split from by {@link #splitWords(String)}.
+     *
+     * @param words cannot be null
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public static boolean anyWordEqualsIgnoreCase(String[] words, String word) {
+        requireNonNull(words);
+        requireNonNull(word);
+        int wordStart = trimmedStart(word);
+        int wordEnd = trimmedEnd(word);
+        checkWord(word, wordStart, wordEnd);
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+        int wordLength = wordEnd - wordStart;
+        for (String candidate : words) {
+            if (candidate.length() == wordLength && candidate.regionMatches(true, 0, word, wordStart, wordLength)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+    /**
+     * Returns the whitespace-separated words of {@code sentence}, without empty words.
+     * <br>examples:<pre>
+     *       splitWords("  ABc  def ") == {"ABc", "def"}
+     *       splitWords("   ") == {}
+     *       </pre>
+     * @param sentence cannot be null
+     */
+    public static String[] splitWords(String sentence) {
+        requireNonNull(sentence);
+        int wordCount = 0;
+        for (int i = 0; i < sentence.length(); i++) {
+            if (!isWhitespace(sentence.charAt(i)) && (i == 0 || isWhitespace(sentence.charAt(i - 1)))) {
+                wordCount++;
+            }
+        }
+
+        String[] words = new String[wordCount];
+        int wordIndex = 0;
+        int i = 0;
+        while (wordIndex < wordCount) {
+            while (isWhitespace(sentence.charAt(i))) {
+                i++;
+            }
+            int wordStart = i;
+            while (i < sentence.length() && !isWhitespace(sentence.charAt(i))) {
+                i++;
+            }
+            words[wordIndex++] = sentence.substring(wordStart, i);
+        }
+        return words;
+    }
+
+    /**
+     * Checks that {@code word}, trimmed to the characters from {@code start} to {@code end}, is a single word.
+     */
+    private static void checkWord(String word, int start, int end) {
+        checkArgument(start < end, "Word parameter cannot be empty");
+        for (int i = start; i < end; i++) {
+            checkArgument(!isWhitespace(word.charAt(i)), "Word parameter should be a single word");
+        }
+    }
+
+    /**
+     * Returns the index of the first character that {@link String#trim()} keeps.
+     */
+    private static int trimmedStart(String s) {
+        int start = 0;
+        while (start < s.length() && s.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Returns the index after the last character that {@link String#trim()} keeps.
+     */
+    private static int trimmedEnd(String s) {
+        int end = s.length();
+        while (end > 0 && s.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Returns true if {@code c} is whitespace as matched by {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     /**
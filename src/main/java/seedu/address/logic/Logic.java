@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -34,7 +35,7 @@ public interface Logic {
     ObservableList<Person> getFilteredPersonList();
 
     /**
-     * Returns the user prefs' address book file path.
+     * Returns the path of the address book data file, in the format chosen in the user prefs.
      */
     Path getAddressBookFilePath();
 
@@ -47,4 +48,11 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler that receives the error message of an address book save that failed in the background,
+     * after the command that requested it had already returned.
+     * The handler may be called from a thread other than the JavaFX application thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
 }
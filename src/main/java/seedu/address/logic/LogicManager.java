@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -27,12 +30,20 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Never a version of an address book, which start at 0 and only increase. */
+    private static final long UNSAVED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    /** Version of the model's address book as of the last save, or {@code UNSAVED} after a background save failed. */
+    private volatile long savedAddressBookVersion;
+
+    private volatile Consumer<String> saveFailureHandler = message -> { };
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -40,6 +51,8 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedAddressBookVersion = model.getAddressBookVersion();
+        storage.setSaveFailureHandler(this::onBackgroundSaveFailure);
     }
 
     @Override
@@ -48,17 +61,69 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        long versionBeforeCommand = model.getAddressBookVersion();
         commandResult = command.execute(model);
 
+        if (command.isMutating()) {
+            saveIfChanged();
+        } else {
+            assert model.getAddressBookVersion() == versionBeforeCommand
+                    : "Read-only command changed the address book: " + command;
+        }
+
+        if (commandResult.isExit()) {
+            try {
+                storage.flushAddressBook();
+            } catch (IOException ioe) {
+                throw toCommandException(ioe);
+            }
+        }
+
+        return commandResult;
+    }
+
+    /**
+     * Saves the address book unless it is unchanged since the last save.
+     */
+    private void saveIfChanged() throws CommandException {
+        long addressBookVersion = model.getAddressBookVersion();
+        if (addressBookVersion == savedAddressBookVersion) {
+            logger.fine("Address book unchanged, skipping save");
+            return;
+        }
+
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw toCommandException(ioe);
         }
+        savedAddressBookVersion = addressBookVersion;
+    }
 
-        return commandResult;
+    private static CommandException toCommandException(IOException ioe) {
+        return new CommandException(toErrorMessage(ioe), ioe);
+    }
+
+    private static String toErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    /**
+     * Forgets the last saved version, so that the next command that may change the address book saves it again even
+     * if it changes nothing, and reports {@code ioe} to the save failure handler.
+     */
+    private void onBackgroundSaveFailure(IOException ioe) {
+        savedAddressBookVersion = UNSAVED;
+        saveFailureHandler.accept(toErrorMessage(ioe));
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
     }
 
     @Override
@@ -73,7 +138,7 @@ public class LogicManager implements Logic {
 
     @Override
     public Path getAddressBookFilePath() {
-        return model.getAddressBookFilePath();
+        return storage.getAddressBookFilePath();
     }
 
     @Override
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command may change the address book.
+     * Commands that only read or filter the data return false, and are not followed by a save.
+     */
+    public boolean isMutating() {
+        return true;
+    }
+
 }
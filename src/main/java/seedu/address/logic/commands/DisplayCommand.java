@@ -79,6 +79,11 @@ public class DisplayCommand extends Command {
                 personToDisplay.getName(), visitDates));
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
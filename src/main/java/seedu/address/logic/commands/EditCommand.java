@@ -109,9 +109,14 @@ public class EditCommand extends Command {
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
         Set<Medicine> updatedMedicines = editPersonDescriptor.getMedicines().orElse(personToEdit.getMedicines());
 
-        return new Person(updatedName, updatedPhone,
-                          updatedEmail, updatedAddress, updatedDoctor, updatedTags, updatedMedicines,
-                          personToEdit.getDayList());
+        // Fields that are not edited keep the same objects, so only the edited fields are replaced.
+        return personToEdit.withName(updatedName)
+                .withPhone(updatedPhone)
+                .withEmail(updatedEmail)
+                .withAddress(updatedAddress)
+                .withDoctor(updatedDoctor)
+                .withTags(updatedTags)
+                .withMedicines(updatedMedicines);
 
     }
 
@@ -1,13 +1,17 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_VISIT;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -15,63 +19,122 @@ import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Logs a visit date for a patient identified using it's displayed index from the address book.
+ * Logs a visit date for one or more patients identified using their displayed indexes from the address book.
  */
 public class LogCommand extends Command {
 
     public static final String COMMAND_WORD = "log";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Logs today's date as a visit for the patient identified "
-            + "by the index number used in the displayed patient list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
-
-    public static final String MESSAGE_LOG_PERSON_SUCCESS = "Logged visit for patient: %1$s";
-    public static final String MESSAGE_ALREADY_LOGGED_TODAY = "Visit already logged for today";
+            + ": Logs a visit on the given date, or today if no date is given, for the patients identified "
+            + "by the index numbers used in the displayed patient list.\n"
+            + "Parameters: TARGET [MORE_TARGETS]... [" + PREFIX_VISIT + "DATE] "
+            + "or all [" + PREFIX_VISIT + "DATE] for every displayed patient\n"
+            + "Each TARGET is an INDEX or a range START-END (positive integers), and DATE is in yyyy-MM-dd format.\n"
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "         " + COMMAND_WORD + " 1 3 5-8 " + PREFIX_VISIT + "2024-10-01\n"
+            + "         " + COMMAND_WORD + " all";
+
+    public static final String MESSAGE_LOG_PERSON_SUCCESS = "Logged visit on %1$s for patient: %2$s";
+    public static final String MESSAGE_LOG_PERSONS_SUCCESS = "Logged visit on %1$s for %2$d patient(s)";
+    public static final String MESSAGE_ALREADY_LOGGED = "Visit already logged on %1$s";
+    public static final String MESSAGE_SKIPPED_ALREADY_LOGGED =
+            "\n%1$d patient(s) already had a visit logged on that date and were skipped";
 
     private static final Logger logger = LogsCenter.getLogger(LogCommand.class);
 
-    private final Index targetIndex;
+    private final List<IndexRange> targetRanges;
+    private final boolean isAllDisplayed;
+    private final LocalDate visitDate;
+
+    /**
+     * Creates a LogCommand to log a visit on {@code visitDate} for the patients at {@code targetRanges}.
+     */
+    public LogCommand(List<IndexRange> targetRanges, LocalDate visitDate) {
+        this(List.copyOf(targetRanges), false, visitDate);
+    }
+
+    private LogCommand(List<IndexRange> targetRanges, boolean isAllDisplayed, LocalDate visitDate) {
+        requireAllNonNull(targetRanges, visitDate);
+        this.targetRanges = targetRanges;
+        this.isAllDisplayed = isAllDisplayed;
+        this.visitDate = visitDate;
+    }
 
-    public LogCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+    /**
+     * Returns a LogCommand to log a visit on {@code visitDate} for every patient in the displayed list.
+     */
+    public static LogCommand forAllDisplayed(LocalDate visitDate) {
+        return new LogCommand(List.of(), true, visitDate);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        assert model != null : "Model should not be null";
-        logger.info("Executing LogCommand for index: " + targetIndex.getOneBased());
+        logger.info("Executing LogCommand for " + (isAllDisplayed ? "all displayed patients" : targetRanges)
+                + " on date: " + visitDate);
 
         List<Person> lastShownList = model.getFilteredPersonList();
         assert lastShownList != null : "Filtered person list should not be null";
+        BitSet targetPositions = findTargetPositions(lastShownList.size());
+
+        List<Person> personsToLog = new ArrayList<>();
+        List<Person> updatedPersons = new ArrayList<>();
+        for (int i = targetPositions.nextSetBit(0); i >= 0; i = targetPositions.nextSetBit(i + 1)) {
+            Person personToLog = lastShownList.get(i);
+            if (!personToLog.getDayList().hasVisitDate(visitDate)) {
+                personsToLog.add(personToLog);
+                updatedPersons.add(createPersonWithNewVisitDate(personToLog, visitDate));
+            }
+        }
+        int skippedCount = targetPositions.cardinality() - personsToLog.size();
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            logger.warning("Invalid person index: " + targetIndex.getOneBased());
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        if (personsToLog.isEmpty()) {
+            logger.info("Visit already logged on " + visitDate + " for every target patient");
+            throw new CommandException(String.format(MESSAGE_ALREADY_LOGGED, visitDate));
         }
 
-        Person personToLog = lastShownList.get(targetIndex.getZeroBased());
-        assert personToLog != null : "Person to log should not be null";
-        LocalDate today = LocalDate.now();
-        assert today != null : "Today's date should not be null";
-        logger.info("Logging visit for person: " + personToLog.getName() + " on date: " + today);
+        if (personsToLog.size() == 1) {
+            model.setPerson(personsToLog.get(0), updatedPersons.get(0));
+        } else {
+            // Applied as one change, so the list and the indexes are updated once rather than once per patient
+            model.batch(addressBook -> {
+                for (int i = 0; i < personsToLog.size(); i++) {
+                    addressBook.setPerson(personsToLog.get(i), updatedPersons.get(i));
+                }
+            });
+        }
+        logger.info("Successfully logged visit for " + personsToLog.size() + " patient(s)");
 
-        // Check if today's date is already logged
-        if (personToLog.getDayList().hasVisitDate(today)) {
-            logger.info("Visit already logged for today for person: " + personToLog.getName());
-            throw new CommandException(MESSAGE_ALREADY_LOGGED_TODAY);
+        String message = personsToLog.size() == 1 && skippedCount == 0
+                ? String.format(MESSAGE_LOG_PERSON_SUCCESS, visitDate, Messages.format(updatedPersons.get(0)))
+                : String.format(MESSAGE_LOG_PERSONS_SUCCESS, visitDate, personsToLog.size());
+        if (skippedCount > 0) {
+            message += String.format(MESSAGE_SKIPPED_ALREADY_LOGGED, skippedCount);
         }
+        return new CommandResult(message);
+    }
 
-        // Create a new person with today's date added to their DayList
-        Person updatedPerson = createPersonWithNewVisitDate(personToLog, today);
-        assert updatedPerson != null : "Updated person should not be null";
-        assert updatedPerson.getDayList().hasVisitDate(today) : "Updated person should have today's date in DayList";
-        model.setPerson(personToLog, updatedPerson);
-        logger.info("Successfully logged visit for person: " + updatedPerson.getName());
+    /**
+     * Returns the positions in a displayed list of {@code size} patients that this command logs a visit for.
+     * Positions in overlapping ranges are only included once.
+     * @throws CommandException if any of the target indexes is not in the displayed list.
+     */
+    private BitSet findTargetPositions(int size) throws CommandException {
+        BitSet targetPositions = new BitSet(size);
+        if (isAllDisplayed) {
+            targetPositions.set(0, size);
+            return targetPositions;
+        }
 
-        return new CommandResult(String.format(MESSAGE_LOG_PERSON_SUCCESS, Messages.format(updatedPerson)));
+        for (IndexRange range : targetRanges) {
+            if (!range.isWithin(size)) {
+                logger.warning("Invalid person index: " + range.getEnd().getOneBased());
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            targetPositions.set(range.getStart().getZeroBased(), range.getEnd().getZeroBased() + 1);
+        }
+        return targetPositions;
     }
 
     /**
@@ -82,16 +145,7 @@ public class LogCommand extends Command {
         assert visitDate != null : "Visit date should not be null";
         assert !person.getDayList().hasVisitDate(visitDate) : "Person should not already have this visit date";
 
-        Person updatedPerson = new Person(
-                person.getName(),
-                person.getPhone(),
-                person.getEmail(),
-                person.getAddress(),
-                person.getDoctor(),
-                person.getTags(),
-                person.getMedicines(),
-                person.getDayList().addVisitDate(visitDate)
-        );
+        Person updatedPerson = person.withDayList(person.getDayList().addVisitDate(visitDate));
 
         assert updatedPerson.getDayList().hasVisitDate(visitDate) : "Updated person should have the new visit date";
         return updatedPerson;
@@ -109,13 +163,17 @@ public class LogCommand extends Command {
         }
 
         LogCommand otherLogCommand = (LogCommand) other;
-        return targetIndex.equals(otherLogCommand.targetIndex);
+        return targetRanges.equals(otherLogCommand.targetRanges)
+                && isAllDisplayed == otherLogCommand.isAllDisplayed
+                && visitDate.equals(otherLogCommand.visitDate);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targetRanges", targetRanges)
+                .add("isAllDisplayed", isAllDisplayed)
+                .add("visitDate", visitDate)
                 .toString();
     }
 }
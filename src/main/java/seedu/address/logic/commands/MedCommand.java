@@ -61,6 +61,11 @@ public class MedCommand extends Command {
                 personToView.getName(), medicineList.toString().trim()));
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.query.Query;
+
+/**
+ * Finds and lists all patients in address book who satisfy a combination of criteria.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all patients who satisfy the specified "
+            + "criteria, combined with and, or, not and brackets, and displays them as a list with index numbers.\n"
+            + "Criteria: n/NAME_WORD dr/DOCTOR_WORD med/MEDICINE t/TAG v/DATE v/START_DATE..END_DATE\n"
+            + "Criteria next to each other must all be satisfied. not binds tightest, then and, then or.\n"
+            + "Example: " + COMMAND_WORD + " (dr/lim or dr/tan) med/insulin not t/inactive";
+
+    private final Query query;
+
+    public QueryCommand(Query query) {
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(query);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+
+        QueryCommand otherQueryCommand = (QueryCommand) other;
+        return query.equals(otherQueryCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.LastVisitBeforePredicate;
+
+/**
+ * Lists all patients last seen before a given date, from the least to the most recently seen.
+ */
+public class RecallCommand extends Command {
+
+    public static final String COMMAND_WORD = "recall";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all patients whose most recent visit was "
+            + "before the specified date, or who have not visited within the specified number of days, from the "
+            + "least to the most recently seen. Patients with no recorded visits are listed first.\n"
+            + "Parameters: DATE (in yyyy-MM-dd format) or DAYS (a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 2024-01-01\n"
+            + "         " + COMMAND_WORD + " 180";
+
+    private final LastVisitBeforePredicate predicate;
+
+    public RecallCommand(LastVisitBeforePredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(predicate, LastVisitBeforePredicate.LEAST_RECENTLY_SEEN_FIRST);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RecallCommand)) {
+            return false;
+        }
+
+        RecallCommand otherRecallCommand = (RecallCommand) other;
+        return predicate.equals(otherRecallCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.VisitDateInRangePredicate;
+
+/**
+ * Finds and lists all patients who visited on a given date, or on any date in a given range.
+ */
+public class VisitedCommand extends Command {
+
+    public static final String COMMAND_WORD = "visited";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all patients who visited on the specified "
+            + "date, or on any date from the start date to the end date inclusive, and displays them as a list with "
+            + "index numbers.\n"
+            + "Parameters: DATE [END_DATE] (dates in yyyy-MM-dd format)\n"
+            + "Example: " + COMMAND_WORD + " 2024-10-01\n"
+            + "         " + COMMAND_WORD + " 2024-10-01 2024-10-07";
+
+    private final VisitDateInRangePredicate predicate;
+
+    public VisitedCommand(VisitDateInRangePredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof VisitedCommand)) {
+            return false;
+        }
+
+        VisitedCommand otherVisitedCommand = (VisitedCommand) other;
+        return predicate.equals(otherVisitedCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -55,7 +55,7 @@ public class AddCommandParser implements Parser<AddCommand> {
         if (argMultimap.getValue(PREFIX_DOCTOR).isPresent()) {
             doctor = ParserUtil.parseDoctor(argMultimap.getValue(PREFIX_DOCTOR).get());
         } else {
-            doctor = new Doctor("");
+            doctor = Doctor.of("");
         }
         Set<Tag> tagList = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
         Set<Medicine> medicineList = ParserUtil.parseMedicines(argMultimap.getAllValues(PREFIX_MEDICINE));
@@ -22,7 +22,10 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.LogCommand;
 import seedu.address.logic.commands.MedCommand;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.RecallCommand;
 import seedu.address.logic.commands.ViewCommand;
+import seedu.address.logic.commands.VisitedCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -101,6 +104,15 @@ public class AddressBookParser {
         case DisplayCommand.COMMAND_WORD:
             return new DisplayCommandParser().parse(arguments);
 
+        case VisitedCommand.COMMAND_WORD:
+            return new VisitedCommandParser().parse(arguments);
+
+        case RecallCommand.COMMAND_WORD:
+            return new RecallCommandParser().parse(arguments);
+
+        case QueryCommand.COMMAND_WORD:
+            return new QueryCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -13,4 +13,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_DOCTOR = new Prefix("dr/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_MEDICINE = new Prefix("med/");
+    public static final Prefix PREFIX_VISIT = new Prefix("v/");
 }
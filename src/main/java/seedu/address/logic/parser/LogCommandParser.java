@@ -1,8 +1,14 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_VISIT;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.logic.commands.LogCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -11,15 +17,61 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class LogCommandParser implements Parser<LogCommand> {
 
+    public static final String KEYWORD_ALL = "all";
+    public static final String MESSAGE_FUTURE_DATE = "Visits cannot be logged for a date after today.";
+
     /**
      * Parses the given {@code String} of arguments in the context of the LogCommand
      * and returns a LogCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public LogCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_VISIT);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_VISIT);
+
+        LocalDate today = LocalDate.now();
+        LocalDate visitDate = argMultimap.getValue(PREFIX_VISIT).isPresent()
+                ? ParserUtil.parseDate(argMultimap.getValue(PREFIX_VISIT).get())
+                : today;
+        if (visitDate.isAfter(today)) {
+            throw new ParseException(MESSAGE_FUTURE_DATE);
+        }
+
+        String targets = argMultimap.getPreamble();
+        if (targets.equalsIgnoreCase(KEYWORD_ALL)) {
+            return LogCommand.forAllDisplayed(visitDate);
+        }
+        return new LogCommand(parseIndexRanges(targets), visitDate);
+    }
+
+    /**
+     * Parses whitespace-separated indexes and ranges of indexes in the form {@code START-END}.
+     * @throws ParseException if there are none, or any of them is invalid.
+     */
+    private static List<IndexRange> parseIndexRanges(String targets) throws ParseException {
+        if (targets.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LogCommand.MESSAGE_USAGE));
+        }
+
+        List<IndexRange> ranges = new ArrayList<>();
+        for (String target : targets.split("\\s+")) {
+            String[] ends = target.split("-", -1);
+            if (ends.length > 2) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LogCommand.MESSAGE_USAGE));
+            }
+            Index start = parseTargetIndex(ends[0]);
+            Index end = ends.length == 2 ? parseTargetIndex(ends[1]) : start;
+            if (start.getZeroBased() > end.getZeroBased()) {
+                throw new ParseException(IndexRange.MESSAGE_CONSTRAINTS);
+            }
+            ranges.add(new IndexRange(start, end));
+        }
+        return ranges;
+    }
+
+    private static Index parseTargetIndex(String index) throws ParseException {
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new LogCommand(index);
+            return ParserUtil.parseIndex(index);
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, LogCommand.MESSAGE_USAGE), pe);
@@ -10,6 +10,8 @@ import static seedu.address.model.CharacterLimit.MAX_PHONE_LENGTH;
 import static seedu.address.model.CharacterLimit.MAX_TAG_LENGTH;
 import static seedu.address.model.CharacterLimit.MESSAGE_LENGTH_EXCEEDED;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -32,6 +34,8 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_DATE = "Dates should be valid and in the format yyyy-MM-dd, "
+            + "e.g. 2024-01-31";
 
     /**
      * Validates the length of a string against a maximum length.
@@ -129,7 +133,7 @@ public class ParserUtil {
         if (!Doctor.isValidDoctor(trimmedDoctor)) {
             throw new ParseException(Doctor.MESSAGE_CONSTRAINTS);
         }
-        return new Doctor(trimmedDoctor);
+        return Doctor.of(trimmedDoctor);
     }
 
     /**
@@ -161,7 +165,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -192,7 +196,7 @@ public class ParserUtil {
         if (!Medicine.isValidMedicineName(trimmedMedicine)) {
             throw new ParseException(Medicine.MESSAGE_CONSTRAINTS);
         }
-        return new Medicine(trimmedMedicine);
+        return Medicine.of(trimmedMedicine);
     }
 
     /**
@@ -206,4 +210,19 @@ public class ParserUtil {
         }
         return medicineSet;
     }
+
+    /**
+     * Parses a {@code String date} in the format yyyy-MM-dd into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is not a valid date in that format.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE, e);
+        }
+    }
 }
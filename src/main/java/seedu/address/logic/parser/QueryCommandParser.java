@@ -0,0 +1,158 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICINE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_VISIT;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.DoctorNameContainsKeywordsPredicate;
+import seedu.address.model.person.MedicineContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.VisitDateInRangePredicate;
+import seedu.address.model.query.Query;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object.
+ * <p>
+ * The grammar, where criteria next to each other are joined with AND:
+ * <pre>
+ * query     = and-query { "or" and-query }
+ * and-query = unary { ["and"] unary }
+ * unary     = "not" unary | "(" query ")" | criterion
+ * </pre>
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    public static final String MESSAGE_UNKNOWN_CRITERION = "Unknown criterion: %1$s";
+
+    private static final Pattern TOKEN_FORMAT = Pattern.compile("[()]|[^\\s()]+");
+    private static final String DATE_RANGE_SEPARATOR = "..";
+
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        tokens = tokenize(args);
+        position = 0;
+        if (tokens.isEmpty()) {
+            throw invalidFormat();
+        }
+
+        Query query = parseOr();
+        if (position < tokens.size()) {
+            throw invalidFormat();
+        }
+        return new QueryCommand(query);
+    }
+
+    private static List<String> tokenize(String args) {
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN_FORMAT.matcher(args);
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+        return tokens;
+    }
+
+    private Query parseOr() throws ParseException {
+        List<Query> queries = new ArrayList<>();
+        queries.add(parseAnd());
+        while (nextIs("or")) {
+            position++;
+            queries.add(parseAnd());
+        }
+        return Query.or(queries);
+    }
+
+    private Query parseAnd() throws ParseException {
+        List<Query> queries = new ArrayList<>();
+        queries.add(parseUnary());
+        while (position < tokens.size() && !nextIs("or") && !nextIs(")")) {
+            if (nextIs("and")) {
+                position++;
+            }
+            queries.add(parseUnary());
+        }
+        return Query.and(queries);
+    }
+
+    private Query parseUnary() throws ParseException {
+        if (position == tokens.size()) {
+            throw invalidFormat();
+        }
+        String token = tokens.get(position++);
+        if (token.equalsIgnoreCase("not")) {
+            return Query.not(parseUnary());
+        }
+        if (token.equals("(")) {
+            Query query = parseOr();
+            if (!nextIs(")")) {
+                throw invalidFormat();
+            }
+            position++;
+            return query;
+        }
+        return parseCriterion(token);
+    }
+
+    private static Query parseCriterion(String token) throws ParseException {
+        int prefixEnd = token.indexOf('/') + 1;
+        String prefix = token.substring(0, prefixEnd);
+        String value = token.substring(prefixEnd);
+        if (prefixEnd == 0 || value.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_CRITERION, token));
+        }
+
+        if (prefix.equals(PREFIX_NAME.getPrefix())) {
+            return Query.of(new NameContainsKeywordsPredicate(List.of(value)));
+        } else if (prefix.equals(PREFIX_DOCTOR.getPrefix())) {
+            return Query.of(new DoctorNameContainsKeywordsPredicate(List.of(value)));
+        } else if (prefix.equals(PREFIX_MEDICINE.getPrefix())) {
+            return Query.of(new MedicineContainsKeywordsPredicate(List.of(value)));
+        } else if (prefix.equals(PREFIX_TAG.getPrefix())) {
+            return Query.of(new TagContainsKeywordsPredicate(List.of(value)));
+        } else if (prefix.equals(PREFIX_VISIT.getPrefix())) {
+            return Query.of(parseVisitDates(value));
+        }
+        throw new ParseException(String.format(MESSAGE_UNKNOWN_CRITERION, token));
+    }
+
+    private static VisitDateInRangePredicate parseVisitDates(String dates) throws ParseException {
+        int separator = dates.indexOf(DATE_RANGE_SEPARATOR);
+        if (separator == -1) {
+            LocalDate date = ParserUtil.parseDate(dates);
+            return new VisitDateInRangePredicate(date, date);
+        }
+
+        LocalDate from = ParserUtil.parseDate(dates.substring(0, separator));
+        LocalDate to = ParserUtil.parseDate(dates.substring(separator + DATE_RANGE_SEPARATOR.length()));
+        if (from.isAfter(to)) {
+            throw new ParseException(VisitedCommandParser.MESSAGE_START_AFTER_END);
+        }
+        return new VisitDateInRangePredicate(from, to);
+    }
+
+    private boolean nextIs(String token) {
+        return position < tokens.size() && tokens.get(position).equalsIgnoreCase(token);
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+}
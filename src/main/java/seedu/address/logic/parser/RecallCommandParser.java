@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.RecallCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.LastVisitBeforePredicate;
+
+/**
+ * Parses input arguments and creates a new RecallCommand object
+ */
+public class RecallCommandParser implements Parser<RecallCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RecallCommand
+     * and returns a RecallCommand object for execution.
+     * A number of days {@code n} lists the patients not seen since the day {@code n} days before today.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RecallCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || trimmedArgs.contains(" ")) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RecallCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate date = StringUtil.isNonZeroUnsignedInteger(trimmedArgs)
+                ? LocalDate.now().minusDays(Integer.parseInt(trimmedArgs))
+                : ParserUtil.parseDate(trimmedArgs);
+        return new RecallCommand(new LastVisitBeforePredicate(date));
+    }
+
+}
@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.VisitedCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.VisitDateInRangePredicate;
+
+/**
+ * Parses input arguments and creates a new VisitedCommand object
+ */
+public class VisitedCommandParser implements Parser<VisitedCommand> {
+
+    public static final String MESSAGE_START_AFTER_END = "The start date must not be after the end date.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the VisitedCommand
+     * and returns a VisitedCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public VisitedCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        String[] dates = trimmedArgs.split("\\s+");
+        if (trimmedArgs.isEmpty() || dates.length > 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, VisitedCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate from = ParserUtil.parseDate(dates[0]);
+        LocalDate to = dates.length == 2 ? ParserUtil.parseDate(dates[1]) : from;
+        if (from.isAfter(to)) {
+            throw new ParseException(MESSAGE_START_AFTER_END);
+        }
+        return new VisitedCommand(new VisitDateInRangePredicate(from, to));
+    }
+
+}
@@ -2,8 +2,13 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
@@ -15,8 +20,20 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /** The most changes to the person list that are kept linked to each other, see {@link PersonListChange}. */
+    private static final int MAX_LINKED_CHANGES = 1000;
+    /** The most persons that the linked changes may hold on to, unless the latest change alone adds more. */
+    private static final int MAX_LINKED_PERSONS = 10000;
+
     private final UniquePersonList persons;
 
+    /** Incremented whenever the persons in this address book change. */
+    private long version;
+
+    /** The most recent changes to the person list, oldest first. */
+    private final Deque<PersonListChange> linkedChanges = new ArrayDeque<>();
+    private int linkedPersonCount;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -26,6 +43,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        persons.asUnmodifiableObservableList().addListener(this::recordChanges);
     }
 
     public AddressBook() {}
@@ -46,6 +64,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
     }
 
     /**
@@ -73,6 +92,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version++;
     }
 
     /**
@@ -84,6 +104,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        version++;
     }
 
     /**
@@ -92,6 +113,68 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version++;
+    }
+
+    /**
+     * Applies {@code changes} to this address book as a single change.
+     * The person list notifies its listeners once, of only the persons replaced, removed or added, and the version
+     * increases once. If {@code changes} throws, the changes it made are undone and the version is left unchanged.
+     */
+    public void batch(Consumer<AddressBook> changes) {
+        requireNonNull(changes);
+        long versionBefore = version;
+        // The version is settled inside the batch, so that listeners see the final version when they are notified
+        persons.batch(() -> {
+            try {
+                changes.accept(this);
+            } catch (RuntimeException | Error e) {
+                version = versionBefore;
+                throw e;
+            }
+            if (version != versionBefore) {
+                version = versionBefore + 1;
+            }
+        });
+    }
+
+    /**
+     * Returns the version of this address book.
+     * The version increases every time the persons in the address book change, so two equal versions read from
+     * the same {@code AddressBook} mean that nothing changed in between.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Optional<PersonListChange> getLatestChange() {
+        return Optional.ofNullable(linkedChanges.peekLast());
+    }
+
+    /**
+     * Records {@code change} as linked {@code PersonListChange}s, and unlinks the oldest ones once too many are kept.
+     */
+    private void recordChanges(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                continue;
+            }
+            int removedCount = change.wasPermutated() ? change.getTo() - change.getFrom() : change.getRemovedSize();
+            List<? extends Person> addedPersons = change.wasPermutated()
+                    ? change.getList().subList(change.getFrom(), change.getTo())
+                    : change.getAddedSubList();
+            PersonListChange recorded =
+                    new PersonListChange(linkedChanges.peekLast(), change.getFrom(), removedCount, addedPersons);
+            linkedChanges.addLast(recorded);
+            linkedPersonCount += addedPersons.size();
+        }
+
+        while (linkedChanges.size() > MAX_LINKED_CHANGES
+                || linkedChanges.size() > 1 && linkedPersonCount > MAX_LINKED_PERSONS) {
+            linkedPersonCount -= linkedChanges.removeFirst().getAddedPersons().size();
+            linkedChanges.getFirst().unlinkPrevious();
+        }
     }
 
     //// util methods
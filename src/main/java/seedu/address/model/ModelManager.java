@@ -4,13 +4,19 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.index.FilterCache;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.PersonIndexes;
 import seedu.address.model.person.Person;
 
 /**
@@ -18,10 +24,14 @@ import seedu.address.model.person.Person;
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final int FILTER_CACHE_CAPACITY = 16;
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
+    private final PersonIndexes personIndexes;
+    private final FilterCache filterCache = new FilterCache(FILTER_CACHE_CAPACITY);
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -33,7 +43,10 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        // The indexes must be listening to the person list before the filtered list is, see PersonIndexes.
+        personIndexes = new PersonIndexes(this.addressBook.getPersonList());
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
     }
 
     public ModelManager() {
@@ -87,6 +100,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -111,6 +129,12 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void batch(Consumer<AddressBook> changes) {
+        requireNonNull(changes);
+        addressBook.batch(changes);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -119,13 +143,35 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        setFilter(predicate);
+        sortedPersons.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        requireAllNonNull(predicate, comparator);
+        setFilter(predicate);
+        sortedPersons.setComparator(comparator);
+    }
+
+    /**
+     * Filters the person list with {@code predicate}. Setting a predicate makes the filtered list test every person
+     * again, so this is skipped if the filter is already the one applied, as when a cached indexed predicate is
+     * applied again before the address book changes.
+     */
+    private void setFilter(Predicate<Person> predicate) {
+        Predicate<Person> filter = predicate instanceof IndexedPredicate
+                ? filterCache.resolve((IndexedPredicate) predicate, addressBook.getVersion(), personIndexes)
+                : predicate;
+        if (filter != filteredPersons.getPredicate()) {
+            filteredPersons.setPredicate(filter);
+        }
     }
 
     @Override
@@ -142,7 +188,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && sortedPersons.equals(otherModelManager.sortedPersons);
     }
 
 }
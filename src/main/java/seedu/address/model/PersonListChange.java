@@ -0,0 +1,68 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.person.Person;
+
+/**
+ * One change to the person list of an {@code AddressBook}: the {@code removedCount} persons from {@code position}
+ * were replaced by {@code addedPersons}.
+ * <p>
+ * Each change is linked to the change made before it, so the changes made since an earlier one can be collected by
+ * walking back from the latest, without looking at the rest of the list. The address book only keeps a bounded number
+ * of recent changes linked, so a change that is too old can no longer be reached.
+ */
+public final class PersonListChange {
+
+    private final int position;
+    private final int removedCount;
+    private final List<Person> addedPersons;
+
+    /** The change made before this one, or null if it is no longer kept. Cleared by the address book's thread only. */
+    private volatile PersonListChange previous;
+
+    PersonListChange(PersonListChange previous, int position, int removedCount, List<? extends Person> addedPersons) {
+        this.previous = previous;
+        this.position = position;
+        this.removedCount = removedCount;
+        this.addedPersons = List.copyOf(addedPersons);
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public int getRemovedCount() {
+        return removedCount;
+    }
+
+    public List<Person> getAddedPersons() {
+        return addedPersons;
+    }
+
+    /**
+     * Returns the changes made after {@code earlier}, up to and including this one, oldest first.
+     * Returns an empty Optional if {@code earlier} was not made before this change or is no longer linked to it.
+     */
+    public Optional<List<PersonListChange>> getChangesSince(PersonListChange earlier) {
+        List<PersonListChange> changes = new ArrayList<>();
+        for (PersonListChange change = this; change != earlier; change = change.previous) {
+            if (change == null) {
+                return Optional.empty();
+            }
+            changes.add(change);
+        }
+        Collections.reverse(changes);
+        return Optional.of(changes);
+    }
+
+    /**
+     * Stops linking this change to the change made before it, so that the earlier changes can be reclaimed.
+     */
+    void unlinkPrevious() {
+        previous = null;
+    }
+}
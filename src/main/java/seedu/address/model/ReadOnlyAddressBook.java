@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 
@@ -14,4 +16,12 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the latest change to the persons list, through which the recent changes before it can be found,
+     * or an empty Optional if the changes are not tracked or there have been none.
+     */
+    default Optional<PersonListChange> getLatestChange() {
+        return Optional.empty();
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,11 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    AddressBookFormat getAddressBookFormat();
+
+    /**
+     * Returns true if long visit histories should be kept on disk and loaded only when needed.
+     */
+    boolean isLazyVisitHistories();
+
 }
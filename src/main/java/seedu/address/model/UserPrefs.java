@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -15,6 +16,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
+    private boolean lazyVisitHistories = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +39,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setLazyVisitHistories(newUserPrefs.isLazyVisitHistories());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +61,23 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public boolean isLazyVisitHistories() {
+        return lazyVisitHistories;
+    }
+
+    public void setLazyVisitHistories(boolean lazyVisitHistories) {
+        this.lazyVisitHistories = lazyVisitHistories;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +91,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookFormat == otherUserPrefs.addressBookFormat
+                && lazyVisitHistories == otherUserPrefs.lazyVisitHistories;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, lazyVisitHistories);
     }
 
     @Override
@@ -82,6 +106,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat);
+        sb.append("\nLazy visit histories : " + lazyVisitHistories);
         return sb.toString();
     }
 
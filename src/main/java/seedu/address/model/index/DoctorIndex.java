@@ -0,0 +1,113 @@
+package seedu.address.model.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.person.Doctor;
+import seedu.address.model.person.Person;
+
+/**
+ * Maps the name of every patient's doctor to the patients who see that doctor.
+ * <p>
+ * A search only goes through the distinct doctors, of which there are far fewer than patients, and then collects the
+ * patients of the doctors that match. The doctors themselves are narrowed down by a {@link TrigramIndex}.
+ */
+public class DoctorIndex {
+
+    private final Map<String, DoctorEntry> doctors = new HashMap<>();
+    private final TrigramIndex<DoctorEntry> doctorTrigrams = new TrigramIndex<>();
+
+    /**
+     * Adds {@code patient} to the index.
+     */
+    void add(Person patient) {
+        Doctor doctor = patient.getDoctor();
+        if (doctor != null) {
+            doctors.computeIfAbsent(doctor.name, unused -> createEntry(doctor)).patients.add(patient);
+        }
+    }
+
+    /**
+     * Removes {@code patient} from the index.
+     */
+    void remove(Person patient) {
+        Doctor doctor = patient.getDoctor();
+        if (doctor == null) {
+            return;
+        }
+        DoctorEntry entry = doctors.get(doctor.name);
+        if (entry != null && entry.patients.remove(patient) && entry.patients.isEmpty()) {
+            doctors.remove(doctor.name);
+            doctorTrigrams.remove(entry, List.of(doctor.name));
+        }
+    }
+
+    /**
+     * Returns the patients whose doctor's name contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Person> findPatients(Collection<String> keywords) {
+        Set<Person> patients = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            for (DoctorEntry entry : findEntries(keyword)) {
+                patients.addAll(entry.patients);
+            }
+        }
+        return patients;
+    }
+
+    /**
+     * Returns an upper bound on the number of patients {@link #findPatients(Collection)} returns for
+     * {@code keywords}, worked out from the matching doctors without collecting their patients.
+     */
+    public int estimatePatients(Collection<String> keywords) {
+        int estimate = 0;
+        for (String keyword : keywords) {
+            for (DoctorEntry entry : findEntries(keyword)) {
+                estimate += entry.patients.size();
+            }
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the entries of the doctors whose name contains {@code keyword} as a whole word, ignoring case.
+     */
+    private List<DoctorEntry> findEntries(String keyword) {
+        Optional<Set<DoctorEntry>> narrowedCandidates = doctorTrigrams.findCandidates(keyword);
+        Collection<DoctorEntry> candidates = narrowedCandidates.isPresent()
+                ? narrowedCandidates.get()
+                : doctors.values();
+        List<DoctorEntry> entries = new ArrayList<>();
+        for (DoctorEntry entry : candidates) {
+            if (entry.doctor.containsWordIgnoreCase(keyword)) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    private DoctorEntry createEntry(Doctor doctor) {
+        DoctorEntry entry = new DoctorEntry(doctor);
+        doctorTrigrams.add(entry, List.of(doctor.name));
+        return entry;
+    }
+
+    /**
+     * A doctor and the patients who see them.
+     */
+    private static class DoctorEntry {
+        private final Doctor doctor;
+        private final Set<Person> patients = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private DoctorEntry(Doctor doctor) {
+            this.doctor = doctor;
+        }
+    }
+}
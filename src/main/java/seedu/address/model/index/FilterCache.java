@@ -0,0 +1,70 @@
+package seedu.address.model.index;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Remembers the persons matched by recently applied predicates, so that applying an equal predicate again does not
+ * look them up again.
+ * <p>
+ * Each result is stored with the version of the address book it was found in, and is only reused while the address
+ * book is still at that version. Predicates are compared with their {@code equals} and {@code hashCode}, and the
+ * least recently used result is dropped once more than the capacity are stored.
+ */
+public class FilterCache {
+
+    public static final String MESSAGE_CAPACITY_CONSTRAINTS = "Capacity should be positive";
+
+    private final Map<IndexedPredicate, CachedResult> results;
+
+    /**
+     * Creates a cache that keeps the results of at most {@code capacity} predicates.
+     */
+    public FilterCache(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_CAPACITY_CONSTRAINTS);
+        results = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<IndexedPredicate, CachedResult> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns a predicate that accepts the same persons as {@code predicate}, as {@link PersonIndexes#resolve} does.
+     * If an equal predicate was resolved at the same {@code version} of the address book, its result is returned
+     * instead of being looked up again.
+     */
+    public Predicate<Person> resolve(IndexedPredicate predicate, long version, PersonIndexes indexes) {
+        CachedResult cached = results.get(predicate);
+        if (cached != null && cached.version == version) {
+            return cached.resolved;
+        }
+
+        Predicate<Person> resolved = indexes.resolve(predicate);
+        results.put(predicate, new CachedResult(version, resolved));
+        return resolved;
+    }
+
+    /**
+     * Returns the number of predicates whose results are stored.
+     */
+    public int size() {
+        return results.size();
+    }
+
+    private static final class CachedResult {
+        private final long version;
+        private final Predicate<Person> resolved;
+
+        private CachedResult(long version, Predicate<Person> resolved) {
+            this.version = version;
+            this.resolved = resolved;
+        }
+    }
+}
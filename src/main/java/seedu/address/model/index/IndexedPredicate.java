@@ -0,0 +1,28 @@
+package seedu.address.model.index;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate<Person>} that can also find the persons satisfying it through {@link PersonIndexes}, without
+ * testing every person.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the persons indexed by {@code indexes} that satisfy this predicate.
+     * The returned set compares persons by identity and must not be modified.
+     */
+    Set<Person> findMatches(PersonIndexes indexes);
+
+    /**
+     * Returns an upper bound on the number of persons {@link #findMatches(PersonIndexes)} returns, worked out from
+     * the sizes the indexes keep without collecting any persons. Used to pick which of several predicates to look up.
+     * The default is the number of indexed persons, for predicates the indexes cannot narrow cheaply.
+     */
+    default int estimateMatches(PersonIndexes indexes) {
+        return indexes.size();
+    }
+}
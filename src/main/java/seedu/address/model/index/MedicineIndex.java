@@ -0,0 +1,138 @@
+package seedu.address.model.index;
+
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.person.Person;
+
+/**
+ * Maps the lower-cased name of every prescribed medicine to the patients prescribed it.
+ * <p>
+ * A search only goes through the distinct medicine names, of which there are far fewer than patients, and then
+ * collects the patients of the names that match. The names themselves are narrowed down by a {@link TrigramIndex}.
+ */
+public class MedicineIndex {
+
+    private final Map<String, MedicineEntry> medicines = new HashMap<>();
+    private final TrigramIndex<MedicineEntry> medicineTrigrams = new TrigramIndex<>();
+    private final Set<Person> patientsWithoutMedicines = newIdentitySet();
+
+    /**
+     * Adds {@code patient} to the index.
+     */
+    void add(Person patient) {
+        if (patient.getMedicines().isEmpty()) {
+            patientsWithoutMedicines.add(patient);
+            return;
+        }
+        for (Medicine medicine : patient.getMedicines()) {
+            medicines.computeIfAbsent(normalize(medicine), this::createEntry).patients.add(patient);
+        }
+    }
+
+    /**
+     * Removes {@code patient} from the index.
+     */
+    void remove(Person patient) {
+        if (patient.getMedicines().isEmpty()) {
+            patientsWithoutMedicines.remove(patient);
+            return;
+        }
+        for (Medicine medicine : patient.getMedicines()) {
+            MedicineEntry entry = medicines.get(normalize(medicine));
+            if (entry != null && entry.patients.remove(patient) && entry.patients.isEmpty()) {
+                medicines.remove(entry.name);
+                medicineTrigrams.remove(entry, List.of(entry.name));
+            }
+        }
+    }
+
+    /**
+     * Returns the patients prescribed a medicine whose name contains any of {@code keywords}, ignoring case.
+     */
+    public Set<Person> findPatients(Collection<String> keywords) {
+        Set<Person> patients = newIdentitySet();
+        for (String keyword : keywords) {
+            for (MedicineEntry entry : findEntries(keyword)) {
+                patients.addAll(entry.patients);
+            }
+        }
+        return patients;
+    }
+
+    /**
+     * Returns an upper bound on the number of patients {@link #findPatients(Collection)} returns for
+     * {@code keywords}, worked out from the matching medicine names without collecting their patients.
+     */
+    public int estimatePatients(Collection<String> keywords) {
+        int estimate = 0;
+        for (String keyword : keywords) {
+            for (MedicineEntry entry : findEntries(keyword)) {
+                estimate += entry.patients.size();
+            }
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the entries of the medicine names that contain {@code keyword}, ignoring case.
+     */
+    private List<MedicineEntry> findEntries(String keyword) {
+        String normalizedKeyword = keyword.toLowerCase();
+        Optional<Set<MedicineEntry>> narrowedCandidates = medicineTrigrams.findCandidates(normalizedKeyword);
+        Collection<MedicineEntry> candidates = narrowedCandidates.isPresent()
+                ? narrowedCandidates.get()
+                : medicines.values();
+        List<MedicineEntry> entries = new ArrayList<>();
+        for (MedicineEntry entry : candidates) {
+            if (entry.name.contains(normalizedKeyword)) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Returns an unmodifiable view of the patients who are not prescribed any medicine.
+     */
+    public Set<Person> getPatientsWithoutMedicines() {
+        return Collections.unmodifiableSet(patientsWithoutMedicines);
+    }
+
+    private MedicineEntry createEntry(String name) {
+        MedicineEntry entry = new MedicineEntry(name);
+        medicineTrigrams.add(entry, List.of(name));
+        return entry;
+    }
+
+    /**
+     * Returns the key of {@code medicine}, matching how {@code MedicineContainsKeywordsPredicate} compares names.
+     */
+    private static String normalize(Medicine medicine) {
+        return medicine.toString().toLowerCase();
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * A lower-cased medicine name and the patients prescribed it.
+     */
+    private static class MedicineEntry {
+        private final String name;
+        private final Set<Person> patients = newIdentitySet();
+
+        private MedicineEntry(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.address.model.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * Search indexes over a list of persons, kept up to date as the list changes.
+ * <p>
+ * The indexes listen to the list, so they must be created before any listener that reads them, such as a
+ * {@code FilteredList} using an indexed predicate. Listeners are notified in the order they were added, so the
+ * indexes then already reflect each change when the later listeners see it.
+ */
+public class PersonIndexes {
+
+    private final MedicineIndex medicineIndex = new MedicineIndex();
+    private final TrigramIndex<Person> nameIndex = new TrigramIndex<>();
+    private final DoctorIndex doctorIndex = new DoctorIndex();
+    private final VisitIndex visitIndex = new VisitIndex();
+    private final RecencyIndex recencyIndex = new RecencyIndex();
+
+    /** The value of {@code changeCount} when each indexed person was added. */
+    private final Map<Person, Long> indexedAt = new IdentityHashMap<>();
+    private long changeCount;
+
+    /**
+     * Creates indexes over {@code persons} that follow its changes.
+     */
+    public PersonIndexes(ObservableList<Person> persons) {
+        persons.forEach(this::add);
+        persons.addListener(this::onChanged);
+    }
+
+    /** Returns the index of the persons' medicines. */
+    public MedicineIndex getMedicineIndex() {
+        return medicineIndex;
+    }
+
+    /** Returns the index of the persons' names. */
+    public TrigramIndex<Person> getNameIndex() {
+        return nameIndex;
+    }
+
+    /** Returns the index of the persons' doctors. */
+    public DoctorIndex getDoctorIndex() {
+        return doctorIndex;
+    }
+
+    /** Returns the index of the persons' visit dates. */
+    public VisitIndex getVisitIndex() {
+        return visitIndex;
+    }
+
+    /** Returns the index of the persons ordered by their most recent visit. */
+    public RecencyIndex getRecencyIndex() {
+        return recencyIndex;
+    }
+
+    /**
+     * Returns the persons that satisfy {@code predicate}, which only accepts persons whose text in {@code index}
+     * contains one of {@code keywords}. Only the candidates the index finds for the keywords are tested.
+     */
+    public Set<Person> findMatches(TrigramIndex<Person> index, Collection<String> keywords,
+            Predicate<Person> predicate) {
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            Optional<Set<Person>> keywordCandidates = index.findCandidates(keyword);
+            if (keywordCandidates.isEmpty()) {
+                candidates = indexedAt.keySet();
+                break;
+            }
+            candidates.addAll(keywordCandidates.get());
+        }
+
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person candidate : candidates) {
+            if (predicate.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns an upper bound on the number of persons {@link #findMatches(TrigramIndex, Collection, Predicate)}
+     * returns for {@code keywords}, worked out without collecting any.
+     */
+    public int estimateMatches(TrigramIndex<Person> index, Collection<String> keywords) {
+        long estimate = 0;
+        for (String keyword : keywords) {
+            OptionalInt keywordEstimate = index.estimateCandidates(keyword);
+            if (keywordEstimate.isEmpty()) {
+                return size();
+            }
+            estimate += keywordEstimate.getAsInt();
+        }
+        return (int) Math.min(estimate, size());
+    }
+
+    /**
+     * Returns the number of indexed persons.
+     */
+    public int size() {
+        return indexedAt.size();
+    }
+
+    /**
+     * Returns the persons that satisfy {@code predicate}, testing every indexed person.
+     * This is the fallback for predicates the indexes cannot answer.
+     */
+    public Set<Person> scan(Predicate<Person> predicate) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person person : indexedAt.keySet()) {
+            if (predicate.test(person)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that accepts the same persons as {@code predicate}.
+     * The persons it accepts are looked up in the indexes once, now. Persons added to the list afterwards, including
+     * edited persons, are tested with {@code predicate} itself.
+     */
+    public Predicate<Person> resolve(IndexedPredicate predicate) {
+        long resolvedAt = changeCount;
+        Set<Person> matches = predicate.findMatches(this);
+        return person -> isIndexedAfter(person, resolvedAt) ? predicate.test(person) : matches.contains(person);
+    }
+
+    private boolean isIndexedAfter(Person person, long change) {
+        Long personIndexedAt = indexedAt.get(person);
+        return personIndexedAt == null || personIndexedAt > change;
+    }
+
+    private void onChanged(ListChangeListener.Change<? extends Person> change) {
+        changeCount++;
+        Set<Person> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Person> added = new ArrayList<>();
+        while (change.next()) {
+            removed.addAll(change.getRemoved());
+            added.addAll(change.getAddedSubList());
+        }
+
+        // A person removed and added back in the same change, as when the whole list is replaced at once, is kept
+        // indexed as it was, so that it does not need to be tested again by predicates resolved before the change.
+        added.removeIf(removed::remove);
+        removed.forEach(this::remove);
+        added.forEach(this::add);
+    }
+
+    private void add(Person person) {
+        indexedAt.put(person, changeCount);
+        medicineIndex.add(person);
+        nameIndex.add(person, List.of(person.getName().fullName));
+        doctorIndex.add(person);
+        visitIndex.add(person);
+        recencyIndex.add(person);
+    }
+
+    private void remove(Person person) {
+        indexedAt.remove(person);
+        medicineIndex.remove(person);
+        nameIndex.remove(person, List.of(person.getName().fullName));
+        doctorIndex.remove(person);
+        visitIndex.remove(person);
+        recencyIndex.remove(person);
+    }
+}
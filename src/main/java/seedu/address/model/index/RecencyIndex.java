@@ -0,0 +1,110 @@
+package seedu.address.model.index;
+
+import java.time.LocalDate;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.visit.DayList;
+
+/**
+ * Orders patients by their most recent visit.
+ * <p>
+ * Finding the patients last seen before a date is a scan of the start of the ordering, so it only goes through the
+ * patients it returns, and returns them in that order. Only the most recent visit is read, which a {@code DayList}
+ * knows without loading its dates.
+ */
+public class RecencyIndex {
+
+    /** The patients by their most recent epoch day, with those never seen under {@link DayList#NEVER_VISITED}. */
+    private final TreeMap<Long, Set<Person>> patientsByLastVisit = new TreeMap<>();
+
+    /**
+     * Adds {@code patient} to the index.
+     */
+    void add(Person patient) {
+        patientsByLastVisit.computeIfAbsent(lastVisitOf(patient), day -> newIdentitySet()).add(patient);
+    }
+
+    /**
+     * Removes {@code patient} from the index.
+     */
+    void remove(Person patient) {
+        long lastVisit = lastVisitOf(patient);
+        Set<Person> patients = patientsByLastVisit.get(lastVisit);
+        if (patients != null && patients.remove(patient) && patients.isEmpty()) {
+            patientsByLastVisit.remove(lastVisit);
+        }
+    }
+
+    /**
+     * Returns the patients whose most recent visit was before {@code date}, including those who never visited.
+     * The returned set compares patients by identity and iterates over them from the least recently seen, starting
+     * with those who never visited.
+     */
+    public Set<Person> findPatientsLastSeenBefore(LocalDate date) {
+        OrderedPatients patients = new OrderedPatients();
+        for (Set<Person> patientsLastSeenOnDay : patientsByLastVisit.headMap(date.toEpochDay(), false).values()) {
+            patients.addAll(patientsLastSeenOnDay);
+        }
+        return patients;
+    }
+
+    /**
+     * Returns the number of patients {@link #findPatientsLastSeenBefore(LocalDate)} returns, counted without
+     * collecting them.
+     */
+    public int countPatientsLastSeenBefore(LocalDate date) {
+        int count = 0;
+        for (Set<Person> patientsLastSeenOnDay : patientsByLastVisit.headMap(date.toEpochDay(), false).values()) {
+            count += patientsLastSeenOnDay.size();
+        }
+        return count;
+    }
+
+    private static long lastVisitOf(Person patient) {
+        return patient.getDayList().getMostRecentEpochDay();
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * An identity set of patients that iterates over them in the order they were added.
+     */
+    private static class OrderedPatients extends AbstractSet<Person> {
+        private final List<Person> order = new ArrayList<>();
+        private final Set<Person> members = newIdentitySet();
+
+        @Override
+        public boolean add(Person patient) {
+            if (!members.add(patient)) {
+                return false;
+            }
+            order.add(patient);
+            return true;
+        }
+
+        @Override
+        public boolean contains(Object patient) {
+            return members.contains(patient);
+        }
+
+        @Override
+        public Iterator<Person> iterator() {
+            return Collections.unmodifiableList(order).iterator();
+        }
+
+        @Override
+        public int size() {
+            return order.size();
+        }
+    }
+}
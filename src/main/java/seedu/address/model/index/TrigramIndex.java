@@ -0,0 +1,136 @@
+package seedu.address.model.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
+/**
+ * Indexes values by the trigrams (runs of three characters) of their texts, ignoring case, to find the values whose
+ * texts may contain a given string.
+ * <p>
+ * A string can only occur in a text if every one of its trigrams does, so the values having all the trigrams of a
+ * string are a small superset of the values that contain it. Callers then test only those candidates exactly.
+ */
+public class TrigramIndex<T> {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<Long, Set<T>> valuesByTrigram = new HashMap<>();
+
+    /**
+     * Adds {@code value} with the given {@code texts}.
+     */
+    public void add(T value, Collection<String> texts) {
+        for (Long trigram : trigramsOf(texts)) {
+            valuesByTrigram.computeIfAbsent(trigram, unused -> newIdentitySet()).add(value);
+        }
+    }
+
+    /**
+     * Removes {@code value}, which must have been added with the same {@code texts}.
+     */
+    public void remove(T value, Collection<String> texts) {
+        for (Long trigram : trigramsOf(texts)) {
+            Set<T> values = valuesByTrigram.get(trigram);
+            if (values != null && values.remove(value) && values.isEmpty()) {
+                valuesByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Returns the values with a text that may contain {@code substring}, ignoring case. Every value with a text that
+     * does contain it is included. Returns an empty {@code Optional} if {@code substring} is shorter than a trigram,
+     * in which case the index cannot narrow the search.
+     * The returned set compares values by identity.
+     */
+    public Optional<Set<T>> findCandidates(String substring) {
+        String folded = fold(substring.trim());
+        if (folded.length() < GRAM_LENGTH) {
+            return Optional.empty();
+        }
+
+        List<Set<T>> postings = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= folded.length(); i++) {
+            Set<T> values = valuesByTrigram.get(trigramAt(folded, i));
+            if (values == null) {
+                return Optional.of(newIdentitySet());
+            }
+            postings.add(values);
+        }
+
+        // Start from the rarest trigram, so that each intersection step only looks at few values.
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<T> candidates = newIdentitySet();
+        candidates.addAll(postings.get(0));
+        for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postings.get(i));
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns an upper bound on the number of values {@link #findCandidates(String)} returns for {@code substring},
+     * read from the sizes of the values kept per trigram without collecting any. Returns an empty
+     * {@code OptionalInt} if {@code substring} is shorter than a trigram.
+     */
+    public OptionalInt estimateCandidates(String substring) {
+        String folded = fold(substring.trim());
+        if (folded.length() < GRAM_LENGTH) {
+            return OptionalInt.empty();
+        }
+
+        int fewest = Integer.MAX_VALUE;
+        for (int i = 0; i + GRAM_LENGTH <= folded.length(); i++) {
+            Set<T> values = valuesByTrigram.get(trigramAt(folded, i));
+            if (values == null) {
+                return OptionalInt.of(0);
+            }
+            fewest = Math.min(fewest, values.size());
+        }
+        return OptionalInt.of(fewest);
+    }
+
+    private static Set<Long> trigramsOf(Collection<String> texts) {
+        Set<Long> trigrams = new HashSet<>();
+        for (String text : texts) {
+            String folded = fold(text);
+            for (int i = 0; i + GRAM_LENGTH <= folded.length(); i++) {
+                trigrams.add(trigramAt(folded, i));
+            }
+        }
+        return trigrams;
+    }
+
+    /**
+     * Packs the three characters of {@code folded} starting at {@code start} into one key.
+     */
+    private static long trigramAt(String folded, int start) {
+        return (long) folded.charAt(start) << 32 | (long) folded.charAt(start + 1) << 16 | folded.charAt(start + 2);
+    }
+
+    /**
+     * Folds the case of each character the way {@link String#equalsIgnoreCase(String)} compares them. Folding
+     * character by character keeps every substring of a text a substring of the folded text.
+     */
+    private static String fold(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
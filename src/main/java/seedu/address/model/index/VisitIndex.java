@@ -0,0 +1,175 @@
+package seedu.address.model.index;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.visit.DayList;
+
+/**
+ * Maps each visit date to the patients who visited on it.
+ * <p>
+ * Every visit is an entry in two parallel arrays sorted by day, so finding who visited on a day or in a range of days
+ * is a binary search followed by a walk over the matching entries. The arrays are built on the first search rather
+ * than as patients are added, and are not rewritten on every change: patients added or removed since they were built
+ * are kept aside and tested directly, so logging a visit does not go through the patient's whole history. The arrays
+ * are rebuilt by the next search once the patients kept aside outnumber a fraction of the entries.
+ * <p>
+ * Patients whose visit dates are kept out of memory are not broken down by day, since that would load every stored
+ * history. A search tests them directly instead, skipping those whose first and last visits fall outside the range.
+ */
+public class VisitIndex {
+
+    /** The fewest added or removed patients that make the next search rebuild the arrays. */
+    private static final int MIN_CHANGES_BEFORE_REBUILD = 16;
+    /** The arrays are also only rebuilt once the added and removed patients exceed one in this many entries. */
+    private static final int ENTRIES_PER_CHANGE_BEFORE_REBUILD = 16;
+
+    private int[] epochDays = new int[0];
+    private Person[] patients = new Person[0];
+
+    private final Set<Person> addedSinceBuild = newIdentitySet();
+    private final Set<Person> removedSinceBuild = newIdentitySet();
+    private final Set<Person> patientsWithStoredVisits = newIdentitySet();
+
+    /**
+     * Adds {@code patient} to the index.
+     */
+    void add(Person patient) {
+        DayList dayList = patient.getDayList();
+        if (dayList.isStored()) {
+            patientsWithStoredVisits.add(patient);
+        } else if (dayList.getVisitCount() > 0) {
+            addedSinceBuild.add(patient);
+        }
+    }
+
+    /**
+     * Removes {@code patient} from the index.
+     */
+    void remove(Person patient) {
+        DayList dayList = patient.getDayList();
+        if (dayList.isStored()) {
+            patientsWithStoredVisits.remove(patient);
+        } else if (dayList.getVisitCount() > 0 && !addedSinceBuild.remove(patient)) {
+            removedSinceBuild.add(patient);
+        }
+    }
+
+    /**
+     * Returns the patients who visited on any day from {@code from} to {@code to}, inclusive.
+     */
+    public Set<Person> findPatients(LocalDate from, LocalDate to) {
+        Set<Person> matches = newIdentitySet();
+        if (from.isAfter(to)) {
+            return matches;
+        }
+        if (isRebuildDue()) {
+            rebuild();
+        }
+
+        long toEpochDay = to.toEpochDay();
+        for (int i = firstEntryOnOrAfter(from.toEpochDay()); i < epochDays.length && epochDays[i] <= toEpochDay; i++) {
+            if (!removedSinceBuild.contains(patients[i])) {
+                matches.add(patients[i]);
+            }
+        }
+        for (Set<Person> patientsTestedDirectly : List.of(addedSinceBuild, patientsWithStoredVisits)) {
+            for (Person patient : patientsTestedDirectly) {
+                if (patient.getDayList().hasVisitBetween(from, to)) {
+                    matches.add(patient);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns an upper bound on the number of patients {@link #findPatients(LocalDate, LocalDate)} returns, worked out
+     * from the number of entries in the range without rebuilding the arrays or testing any patient.
+     */
+    public int estimatePatients(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            return 0;
+        }
+        int entriesInRange = firstEntryOnOrAfter(to.toEpochDay() + 1) - firstEntryOnOrAfter(from.toEpochDay());
+        return entriesInRange + addedSinceBuild.size() + patientsWithStoredVisits.size();
+    }
+
+    private boolean isRebuildDue() {
+        int changes = addedSinceBuild.size() + removedSinceBuild.size();
+        return changes >= Math.max(MIN_CHANGES_BEFORE_REBUILD, epochDays.length / ENTRIES_PER_CHANGE_BEFORE_REBUILD);
+    }
+
+    /**
+     * Returns the position of the first entry on or after {@code epochDay}.
+     */
+    private int firstEntryOnOrAfter(long epochDay) {
+        int low = 0;
+        int high = epochDays.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochDays[mid] < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Merges the visits of the patients added since the arrays were built into them, and drops the visits of the
+     * patients removed since.
+     */
+    private void rebuild() {
+        Person[] added = addedSinceBuild.toArray(new Person[0]);
+        int addedCount = 0;
+        int[][] addedEpochDays = new int[added.length][];
+        for (int i = 0; i < added.length; i++) {
+            addedEpochDays[i] = added[i].getDayList().toEpochDays();
+            addedCount += addedEpochDays[i].length;
+        }
+
+        // Each added visit is packed as its day followed by the position of its patient, so sorting orders by day
+        long[] addedEntries = new long[addedCount];
+        int entry = 0;
+        for (int i = 0; i < added.length; i++) {
+            for (int epochDay : addedEpochDays[i]) {
+                addedEntries[entry++] = ((long) epochDay << Integer.SIZE) | i;
+            }
+        }
+        Arrays.sort(addedEntries);
+
+        int[] newEpochDays = new int[epochDays.length + addedCount];
+        Person[] newPatients = new Person[newEpochDays.length];
+        int size = 0;
+        int kept = 0;
+        int merged = 0;
+        while (kept < epochDays.length || merged < addedCount) {
+            if (kept < epochDays.length && removedSinceBuild.contains(patients[kept])) {
+                kept++;
+            } else if (merged == addedCount
+                    || kept < epochDays.length && epochDays[kept] <= (int) (addedEntries[merged] >> Integer.SIZE)) {
+                newEpochDays[size] = epochDays[kept];
+                newPatients[size++] = patients[kept++];
+            } else {
+                newEpochDays[size] = (int) (addedEntries[merged] >> Integer.SIZE);
+                newPatients[size++] = added[(int) addedEntries[merged++]];
+            }
+        }
+
+        epochDays = Arrays.copyOf(newEpochDays, size);
+        patients = Arrays.copyOf(newPatients, size);
+        addedSinceBuild.clear();
+        removedSinceBuild.clear();
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
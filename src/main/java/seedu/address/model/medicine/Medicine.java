@@ -3,6 +3,8 @@ package seedu.address.model.medicine;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.InternPool;
+
 /**
  * Represents a Medicine in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidMedicineName(String)}
@@ -16,6 +18,9 @@ public class Medicine {
 
     public static final String VALIDATION_REGEX = "^(?!.*/).*\\S.*$";
 
+    private static final InternPool<Medicine> POOL =
+            new InternPool<>(Medicine::new, medicine -> medicine.medicineName);
+
     public final String medicineName;
 
     /**
@@ -29,6 +34,15 @@ public class Medicine {
         this.medicineName = medicineName;
     }
 
+    /**
+     * Returns the shared {@code Medicine} named {@code medicineName}.
+     *
+     * @param medicineName A valid medicine name.
+     */
+    public static Medicine of(String medicineName) {
+        return POOL.intern(medicineName);
+    }
+
     /**
      * Returns true if a given string is a valid medicine name.
      */
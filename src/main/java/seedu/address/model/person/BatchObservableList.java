@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list whose changes can be gathered into one change for its listeners.
+ * <p>
+ * Changes made between {@link #beginBatch()} and {@link #endBatch()} are reported once, by {@code endBatch}, as a
+ * single change listing every replaced, removed and added element. Only the changed positions are reported, so
+ * listeners need not go through the rest of the list.
+ */
+class BatchObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private List<E> elements = new ArrayList<>();
+
+    /**
+     * Starts gathering changes. Calls may be nested; the change is reported when the outermost batch ends.
+     */
+    void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Stops gathering changes, and reports the gathered ones if this ends the outermost batch.
+     */
+    void endBatch() {
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Replaces the elements with {@code replacement} in one step, rather than removing them one at a time.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> replacement) {
+        List<E> removed = elements;
+        elements = new ArrayList<>(replacement);
+        modCount++;
+        beginChange();
+        try {
+            if (!removed.isEmpty()) {
+                nextRemove(0, removed);
+            }
+            if (!elements.isEmpty()) {
+                nextAdd(0, elements.size());
+            }
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.util.InternPool;
+
 /**
  * Represents a Person's doctor in the address book.
  * Guarantees: immutable; is always valid
@@ -20,8 +23,13 @@ public class Doctor {
     public static final String VALIDATION_REGEX =
             "^$|^(?!\\s*$)(?:[A-Za-z0-9@,.-]+|d/o|s/o)(?:\\s+(?:[A-Za-z0-9@,.-]+|d/o|s/o))*$";
 
+    private static final InternPool<Doctor> POOL = new InternPool<>(Doctor::new, doctor -> doctor.name);
+
     public final String name;
 
+    /** The words of {@code name}, split once so that keyword searches need not split it again. */
+    private final String[] words;
+
     /**
      * Constructs an {@code Doctor}.
      *
@@ -31,6 +39,25 @@ public class Doctor {
         requireNonNull(doctor);
         checkArgument(isValidDoctor(doctor), MESSAGE_CONSTRAINTS);
         name = doctor;
+        words = StringUtil.splitWords(doctor);
+    }
+
+    /**
+     * Returns the shared {@code Doctor} named {@code doctor}.
+     *
+     * @param doctor A doctor's name.
+     */
+    public static Doctor of(String doctor) {
+        return POOL.intern(doctor);
+    }
+
+    /**
+     * Returns true if this doctor's name contains {@code word} as a whole word, ignoring case.
+     *
+     * @see StringUtil#containsWordIgnoreCase(String, String)
+     */
+    public boolean containsWordIgnoreCase(String word) {
+        return StringUtil.anyWordEqualsIgnoreCase(words, word);
     }
 
     @Override
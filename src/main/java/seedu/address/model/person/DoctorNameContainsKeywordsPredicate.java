@@ -1,15 +1,16 @@
 package seedu.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.PersonIndexes;
 
 /**
  * Tests that a {@code Person}'s doctor's {@code Name} matches any of the keywords given.
  */
-public class DoctorNameContainsKeywordsPredicate implements Predicate<Person> {
+public class DoctorNameContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
 
     public DoctorNameContainsKeywordsPredicate(List<String> keywords) {
@@ -18,8 +19,23 @@ public class DoctorNameContainsKeywordsPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getDoctor().toString(), keyword));
+        Doctor doctor = person.getDoctor();
+        for (String keyword : keywords) {
+            if (doctor.containsWordIgnoreCase(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<Person> findMatches(PersonIndexes indexes) {
+        return indexes.getDoctorIndex().findPatients(keywords);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        return indexes.getDoctorIndex().estimatePatients(keywords);
     }
 
     @Override
@@ -29,13 +45,18 @@ public class DoctorNameContainsKeywordsPredicate implements Predicate<Person> {
         }
 
         // instanceof handles nulls
-        if (!(other instanceof NameContainsKeywordsPredicate)) {
+        if (!(other instanceof DoctorNameContainsKeywordsPredicate)) {
             return false;
         }
 
-        DoctorNameContainsKeywordsPredicate otherNameContainsKeywordsPredicate =
+        DoctorNameContainsKeywordsPredicate otherDoctorNameContainsKeywordsPredicate =
                 (DoctorNameContainsKeywordsPredicate) other;
-        return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
+        return keywords.equals(otherDoctorNameContainsKeywordsPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
     }
 
     @Override
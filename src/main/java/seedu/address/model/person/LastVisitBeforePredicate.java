@@ -0,0 +1,72 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.PersonIndexes;
+
+/**
+ * Tests that a {@code Person}'s most recent visit was before a given date, or that they have never visited.
+ */
+public class LastVisitBeforePredicate implements IndexedPredicate {
+
+    /** Orders persons from the least to the most recently seen, with those who never visited first. */
+    public static final Comparator<Person> LEAST_RECENTLY_SEEN_FIRST =
+            Comparator.comparingLong(person -> person.getDayList().getMostRecentEpochDay());
+
+    private final LocalDate date;
+
+    /**
+     * Creates a predicate for persons last seen before {@code date}.
+     */
+    public LastVisitBeforePredicate(LocalDate date) {
+        requireNonNull(date);
+        this.date = date;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        LocalDate lastVisit = person.getDayList().getMostRecentVisit();
+        return lastVisit == null || lastVisit.isBefore(date);
+    }
+
+    /**
+     * Returns the matching persons from the recency index, iterated in {@link #LEAST_RECENTLY_SEEN_FIRST} order.
+     */
+    @Override
+    public Set<Person> findMatches(PersonIndexes indexes) {
+        return indexes.getRecencyIndex().findPatientsLastSeenBefore(date);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        return indexes.getRecencyIndex().countPatientsLastSeenBefore(date);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof LastVisitBeforePredicate)) {
+            return false;
+        }
+        LastVisitBeforePredicate otherPredicate = (LastVisitBeforePredicate) other;
+        return date.equals(otherPredicate.date);
+    }
+
+    @Override
+    public int hashCode() {
+        return date.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("date", date).toString();
+    }
+}
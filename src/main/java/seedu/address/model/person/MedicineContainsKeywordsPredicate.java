@@ -1,16 +1,19 @@
 package seedu.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.MedicineIndex;
+import seedu.address.model.index.PersonIndexes;
 import seedu.address.model.medicine.Medicine;
 
 /**
  * Tests that a {@code Person}'s medicines contain any of the keywords given or whether
  * no medicines are prescribed to that person.
  */
-public class MedicineContainsKeywordsPredicate implements Predicate<Person> {
+public class MedicineContainsKeywordsPredicate implements IndexedPredicate {
 
     private final List<String> keywords;
 
@@ -31,6 +34,24 @@ public class MedicineContainsKeywordsPredicate implements Predicate<Person> {
                         .anyMatch(keyword -> medName.toLowerCase().contains(keyword.toLowerCase())));
     }
 
+    @Override
+    public Set<Person> findMatches(PersonIndexes indexes) {
+        MedicineIndex medicineIndex = indexes.getMedicineIndex();
+        if (keywords.isEmpty()) {
+            return medicineIndex.getPatientsWithoutMedicines();
+        }
+        return medicineIndex.findPatients(keywords);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        MedicineIndex medicineIndex = indexes.getMedicineIndex();
+        if (keywords.isEmpty()) {
+            return medicineIndex.getPatientsWithoutMedicines().size();
+        }
+        return medicineIndex.estimatePatients(keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (this == other) {
@@ -43,6 +64,11 @@ public class MedicineContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -23,6 +25,9 @@ public class Name {
 
     public final String fullName;
 
+    /** The words of {@code fullName}, split once so that keyword searches need not split it again. */
+    private final String[] words;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -32,6 +37,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        words = StringUtil.splitWords(name);
     }
 
     /**
@@ -42,6 +48,14 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if this name contains {@code word} as a whole word, ignoring case.
+     *
+     * @see StringUtil#containsWordIgnoreCase(String, String)
+     */
+    public boolean containsWordIgnoreCase(String word) {
+        return StringUtil.anyWordEqualsIgnoreCase(words, word);
+    }
 
     @Override
     public String toString() {
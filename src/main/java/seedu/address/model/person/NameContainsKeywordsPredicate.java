@@ -1,15 +1,16 @@
 package seedu.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.PersonIndexes;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -18,8 +19,23 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        Name name = person.getName();
+        for (String keyword : keywords) {
+            if (name.containsWordIgnoreCase(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<Person> findMatches(PersonIndexes indexes) {
+        return indexes.findMatches(indexes.getNameIndex(), keywords, this);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        return indexes.estimateMatches(indexes.getNameIndex(), keywords);
     }
 
     @Override
@@ -37,6 +53,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
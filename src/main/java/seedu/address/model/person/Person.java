@@ -2,10 +2,14 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.AbstractSet;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.medicine.Medicine;
@@ -15,6 +19,13 @@ import seedu.address.model.visit.DayList;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * <p>
+ * The tag and medicine sets are copied once, into sets that cannot be modified, and are then shared by every
+ * person derived from this one. Use the {@code with} methods to derive a person with one field changed; only that
+ * field is replaced.
+ * <p>
+ * The hash code is computed when the person is created. {@code equals} compares it first, so persons that differ
+ * are usually told apart without comparing their fields.
  */
 public class Person {
 
@@ -26,12 +37,16 @@ public class Person {
     // Data fields
     private final Address address;
     private final Doctor doctor;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<Medicine> medicines = new HashSet<>();
+    private final Set<Tag> tags;
+    private final Set<Medicine> medicines;
     private final DayList dayList;
 
+    // Computed once, since a person never changes
+    private final int hashCode;
+
     /**
      * Every field must be present and not null.
+     * {@code tags} and {@code medicines} are copied, unless they are the sets of another person.
      */
     public Person(Name name, Phone phone, Email email,
                   Address address, Doctor doctor, Set<Tag> tags, Set<Medicine> medicines, DayList dayList) {
@@ -41,9 +56,10 @@ public class Person {
         this.email = email;
         this.address = address;
         this.doctor = doctor;
-        this.tags.addAll(tags);
-        this.medicines.addAll(medicines);
+        this.tags = FrozenSet.of(tags);
+        this.medicines = FrozenSet.of(medicines);
         this.dayList = dayList;
+        this.hashCode = Objects.hash(name, phone, email, address, doctor, this.tags, this.medicines, dayList);
     }
 
     public Name getName() {
@@ -71,7 +87,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -79,7 +95,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Medicine> getMedicines() {
-        return Collections.unmodifiableSet(medicines);
+        return medicines;
     }
 
     /**
@@ -89,6 +105,73 @@ public class Person {
         return dayList;
     }
 
+    /**
+     * Returns a person with the same details as this person but the given name, or this person if it is unchanged.
+     */
+    public Person withName(Name name) {
+        return name == this.name ? this : new Person(name, phone, email, address, doctor, tags, medicines, dayList);
+    }
+
+    /**
+     * Returns a person with the same details as this person but the given phone, or this person if it is unchanged.
+     */
+    public Person withPhone(Phone phone) {
+        return phone == this.phone ? this : new Person(name, phone, email, address, doctor, tags, medicines, dayList);
+    }
+
+    /**
+     * Returns a person with the same details as this person but the given email, or this person if it is unchanged.
+     */
+    public Person withEmail(Email email) {
+        return email == this.email ? this : new Person(name, phone, email, address, doctor, tags, medicines, dayList);
+    }
+
+    /**
+     * Returns a person with the same details as this person but the given address, or this person if it is
+     * unchanged.
+     */
+    public Person withAddress(Address address) {
+        return address == this.address
+                ? this
+                : new Person(name, phone, email, address, doctor, tags, medicines, dayList);
+    }
+
+    /**
+     * Returns a person with the same details as this person but the given doctor, or this person if it is
+     * unchanged.
+     */
+    public Person withDoctor(Doctor doctor) {
+        return doctor == this.doctor ? this : new Person(name, phone, email, address, doctor, tags, medicines, dayList);
+    }
+
+    /**
+     * Returns a person with the same details as this person but the given tags, or this person if they are
+     * unchanged.
+     */
+    public Person withTags(Set<Tag> tags) {
+        return tags == this.tags ? this : new Person(name, phone, email, address, doctor, tags, medicines, dayList);
+    }
+
+    /**
+     * Returns a person with the same details as this person but the given medicines, or this person if they are
+     * unchanged.
+     */
+    public Person withMedicines(Set<Medicine> medicines) {
+        return medicines == this.medicines
+                ? this
+                : new Person(name, phone, email, address, doctor, tags, medicines, dayList);
+    }
+
+    /**
+     * Returns a person with the same details as this person but the given visit dates, or this person if they are
+     * unchanged.
+     */
+    public Person withDayList(DayList dayList) {
+        return dayList == this.dayList
+                ? this
+                : new Person(name, phone, email, address, doctor, tags, medicines, dayList);
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
@@ -118,7 +201,8 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hashCode == otherPerson.hashCode
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
@@ -130,8 +214,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, medicines, dayList);
+        return hashCode;
     }
 
     @Override
@@ -148,4 +231,63 @@ public class Person {
                 .toString();
     }
 
+    /**
+     * A set that cannot be modified, so that it can be shared between persons instead of copied.
+     * It iterates in the same order as a {@code HashSet} of the same elements.
+     */
+    private static final class FrozenSet<E> extends AbstractSet<E> {
+        private final Set<E> elements;
+
+        private FrozenSet(Collection<? extends E> elements) {
+            this.elements = Collections.unmodifiableSet(new HashSet<>(elements));
+        }
+
+        /**
+         * Returns {@code elements} itself if it is already a {@code FrozenSet}, or a frozen copy of it otherwise.
+         */
+        @SuppressWarnings("unchecked")
+        private static <E> Set<E> of(Set<? extends E> elements) {
+            return elements instanceof FrozenSet ? (Set<E>) elements : new FrozenSet<>(elements);
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return elements.iterator();
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return elements.contains(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super E> filter) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
@@ -3,8 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,22 +26,42 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are also indexed by their case-folded name and by their position, so identity checks and finding the
+ * person to replace or remove take constant time.
+ *
+ * Several changes can be made as one with {@link #batch(Runnable)}, so that listeners are notified once.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private static final int NO_STALE_POSITIONS = Integer.MAX_VALUE;
+
+    private final BatchObservableList<Person> internalList = new BatchObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** The persons in {@code internalList}, keyed by {@link #identityKey(Person)}. */
+    private final Map<String, Person> personsByIdentity = new HashMap<>();
+
+    /**
+     * The position of each person in {@code internalList}. Removals do not shift the positions after them right
+     * away: positions from {@code stalePositionsFrom} onwards may be out of date, and are refreshed on the next lookup.
+     */
+    private final Map<Person, Integer> positions = new IdentityHashMap<>();
+    private int stalePositionsFrom = NO_STALE_POSITIONS;
+
+    /** Undoes each change made in the current batch, latest last, or null if no batch is in progress. */
+    private Deque<Runnable> batchUndoActions;
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByIdentity.containsKey(identityKey(toCheck));
     }
 
     /**
@@ -42,10 +70,12 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (personsByIdentity.putIfAbsent(identityKey(toAdd), toAdd) != null) {
             throw new DuplicatePersonException();
         }
+        positions.put(toAdd, internalList.size());
         internalList.add(toAdd);
+        recordUndo(() -> remove(toAdd));
     }
 
     /**
@@ -56,7 +86,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,7 +95,12 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replaced = internalList.set(index, editedPerson);
+        positions.remove(replaced);
+        positions.put(editedPerson, index);
+        personsByIdentity.remove(identityKey(target));
+        personsByIdentity.put(identityKey(editedPerson), editedPerson);
+        recordUndo(() -> setPerson(editedPerson, replaced));
     }
 
     /**
@@ -74,14 +109,80 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person removed = internalList.remove(index);
+        positions.remove(removed);
+        stalePositionsFrom = Math.min(stalePositionsFrom, index);
+        personsByIdentity.remove(identityKey(toRemove));
+        recordUndo(() -> insert(index, removed));
     }
 
+    /**
+     * Puts {@code person}, which must not be in the list, back at {@code index}.
+     */
+    private void insert(int index, Person person) {
+        personsByIdentity.put(identityKey(person), person);
+        internalList.add(index, person);
+        positions.put(person, index);
+        // The persons after it moved up by one, so their recorded positions are out of date
+        stalePositionsFrom = Math.min(stalePositionsFrom, index);
+    }
+
+    /**
+     * Makes the changes in {@code changes} to this list as a single change: listeners are notified once, after all
+     * of them, of only the persons that were replaced, removed or added. If {@code changes} throws, the changes it
+     * made are undone before the exception is passed on.
+     */
+    public void batch(Runnable changes) {
+        requireNonNull(changes);
+        assert batchUndoActions == null : "batches cannot be nested";
+
+        batchUndoActions = new ArrayDeque<>();
+        internalList.beginBatch();
+        try {
+            changes.run();
+        } catch (RuntimeException | Error e) {
+            Deque<Runnable> undoActions = batchUndoActions;
+            batchUndoActions = null;
+            while (!undoActions.isEmpty()) {
+                undoActions.removeLast().run();
+            }
+            throw e;
+        } finally {
+            batchUndoActions = null;
+            internalList.endBatch();
+        }
+    }
+
+    private void recordUndoOfSetPersons() {
+        if (batchUndoActions != null) {
+            List<Person> previousPersons = new ArrayList<>(internalList);
+            recordUndo(() -> setPersons(previousPersons));
+        }
+    }
+
+    private void recordUndo(Runnable undoAction) {
+        if (batchUndoActions != null) {
+            batchUndoActions.addLast(undoAction);
+        }
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        recordUndoOfSetPersons();
         internalList.setAll(replacement.internalList);
+        personsByIdentity.clear();
+        personsByIdentity.putAll(replacement.personsByIdentity);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        stalePositionsFrom = replacement.stalePositionsFrom;
     }
 
     /**
@@ -90,11 +191,14 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<String, Person> index = indexUniquePersons(persons);
+        recordUndoOfSetPersons();
 
         internalList.setAll(persons);
+        personsByIdentity.clear();
+        personsByIdentity.putAll(index);
+        positions.clear();
+        refreshPositionsFrom(0);
     }
 
     /**
@@ -135,16 +239,61 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person equal to {@code person} in {@code internalList}, or -1 if there is none.
+     * Only the person with the same identity can be equal to {@code person}, so at most one person is compared.
+     */
+    private int indexOf(Person person) {
+        Person stored = personsByIdentity.get(identityKey(person));
+        if (stored == null || (stored != person && !stored.equals(person))) {
+            return -1;
+        }
+
+        int position = positions.get(stored);
+        if (position >= stalePositionsFrom) {
+            refreshPositionsFrom(stalePositionsFrom);
+            position = positions.get(stored);
+        }
+        return position;
+    }
+
+    /**
+     * Records the current position of every person from {@code start} to the end of {@code internalList}.
+     */
+    private void refreshPositionsFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+        stalePositionsFrom = NO_STALE_POSITIONS;
+    }
+
+    /**
+     * Returns the key under which persons that are the same by {@link Person#isSamePerson(Person)} coincide.
+     * Names only contain ASCII characters, so lower-casing them matches {@link String#equalsIgnoreCase(String)}.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static String identityKey(Person person) {
+        return person.getName().fullName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns {@code persons} keyed by {@link #identityKey(Person)}, checking in a single pass that they are unique.
+     *
+     * @throws DuplicatePersonException listing every group of persons with the same identity, in list order,
+     *         if {@code persons} contains duplicate persons.
+     */
+    private static Map<String, Person> indexUniquePersons(List<Person> persons) {
+        Map<String, Person> index = new HashMap<>(persons.size() * 4 / 3 + 1);
+        Map<String, List<Person>> duplicateGroups = new LinkedHashMap<>();
+        for (Person person : persons) {
+            String key = identityKey(person);
+            Person first = index.putIfAbsent(key, person);
+            if (first != null) {
+                duplicateGroups.computeIfAbsent(key, unused -> new ArrayList<>(List.of(first))).add(person);
             }
         }
-        return true;
+
+        if (!duplicateGroups.isEmpty()) {
+            throw new DuplicatePersonException(duplicateGroups.values());
+        }
+        return index;
     }
 }
@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.PersonIndexes;
+
+/**
+ * Tests that a {@code Person} visited on any day from a start date to an end date, inclusive.
+ */
+public class VisitDateInRangePredicate implements IndexedPredicate {
+
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Creates a predicate for visits from {@code from} to {@code to}, inclusive.
+     */
+    public VisitDateInRangePredicate(LocalDate from, LocalDate to) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getDayList().hasVisitBetween(from, to);
+    }
+
+    @Override
+    public Set<Person> findMatches(PersonIndexes indexes) {
+        return indexes.getVisitIndex().findPatients(from, to);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        return indexes.getVisitIndex().estimatePatients(from, to);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof VisitDateInRangePredicate)) {
+            return false;
+        }
+        VisitDateInRangePredicate otherPredicate = (VisitDateInRangePredicate) other;
+        return from.equals(otherPredicate.from) && to.equals(otherPredicate.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("from", from).add("to", to).toString();
+    }
+}
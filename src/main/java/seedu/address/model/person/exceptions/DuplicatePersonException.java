@@ -1,11 +1,31 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    public static final String MESSAGE_DUPLICATE_PERSONS = "Operation would result in duplicate persons";
+
     public DuplicatePersonException() {
-        super("Operation would result in duplicate persons");
+        super(MESSAGE_DUPLICATE_PERSONS);
+    }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} whose message lists the names in each group of
+     * {@code duplicateGroups}, a group being the persons that share one identity.
+     */
+    public DuplicatePersonException(Collection<List<Person>> duplicateGroups) {
+        super(MESSAGE_DUPLICATE_PERSONS + ": " + duplicateGroups.stream()
+                .map(group -> group.stream()
+                        .map(person -> person.getName().fullName)
+                        .collect(Collectors.joining(", ", "[", "]")))
+                .collect(Collectors.joining(", ")));
     }
 }
@@ -0,0 +1,308 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.PersonIndexes;
+import seedu.address.model.person.Person;
+
+/**
+ * A combination of criteria on a {@code Person}, joined with AND, OR and NOT.
+ * <p>
+ * A query is planned against {@link PersonIndexes} when it is applied. Criteria that are
+ * {@link IndexedPredicate}s are looked up in the indexes. An AND first estimates how many persons each of its
+ * criteria matches from the sizes the indexes keep, looks up only the criterion estimated to match the fewest, and
+ * tests the other criteria on the persons it matches. An OR can be answered from the indexes if all of its criteria
+ * can. A NOT, or a query with no indexed criteria to start from, is tested against
+ * every person.
+ */
+public abstract class Query implements IndexedPredicate {
+
+    /**
+     * Returns a query that is satisfied when {@code predicate} is.
+     */
+    public static Query of(Predicate<Person> predicate) {
+        return new Criterion(predicate);
+    }
+
+    /**
+     * Returns a query that is satisfied when all of {@code queries} are.
+     */
+    public static Query and(List<Query> queries) {
+        return queries.size() == 1 ? queries.get(0) : new And(queries);
+    }
+
+    /**
+     * Returns a query that is satisfied when any of {@code queries} is.
+     */
+    public static Query or(List<Query> queries) {
+        return queries.size() == 1 ? queries.get(0) : new Or(queries);
+    }
+
+    /**
+     * Returns a query that is satisfied when {@code query} is not.
+     */
+    public static Query not(Query query) {
+        return new Not(query);
+    }
+
+    /**
+     * Returns the persons that satisfy this query using the indexes alone, or null if the indexes cannot answer it.
+     * The returned set compares persons by identity and must not be modified.
+     */
+    abstract Set<Person> findIndexedMatches(PersonIndexes indexes);
+
+    /**
+     * Returns an upper bound on the number of persons {@link #findIndexedMatches(PersonIndexes)} returns, worked out
+     * without collecting any, or an empty {@code OptionalInt} if the indexes cannot answer this query.
+     */
+    abstract OptionalInt estimateIndexedMatches(PersonIndexes indexes);
+
+    @Override
+    public Set<Person> findMatches(PersonIndexes indexes) {
+        Set<Person> matches = findIndexedMatches(indexes);
+        return matches != null ? matches : indexes.scan(this);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        return estimateIndexedMatches(indexes).orElse(indexes.size());
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * A single predicate on a person.
+     */
+    private static final class Criterion extends Query {
+        private final Predicate<Person> predicate;
+
+        private Criterion(Predicate<Person> predicate) {
+            this.predicate = requireNonNull(predicate);
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return predicate.test(person);
+        }
+
+        @Override
+        Set<Person> findIndexedMatches(PersonIndexes indexes) {
+            return predicate instanceof IndexedPredicate ? ((IndexedPredicate) predicate).findMatches(indexes) : null;
+        }
+
+        @Override
+        OptionalInt estimateIndexedMatches(PersonIndexes indexes) {
+            return predicate instanceof IndexedPredicate
+                    ? OptionalInt.of(((IndexedPredicate) predicate).estimateMatches(indexes))
+                    : OptionalInt.empty();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || other instanceof Criterion && predicate.equals(((Criterion) other).predicate);
+        }
+
+        @Override
+        public int hashCode() {
+            return predicate.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return predicate.toString();
+        }
+    }
+
+    private static final class And extends Query {
+        private final List<Query> queries;
+
+        private And(List<Query> queries) {
+            this.queries = List.copyOf(queries);
+        }
+
+        @Override
+        public boolean test(Person person) {
+            for (Query query : queries) {
+                if (!query.test(person)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        Set<Person> findIndexedMatches(PersonIndexes indexes) {
+            Query mostSelectiveQuery = null;
+            int fewestMatches = 0;
+            for (Query query : queries) {
+                OptionalInt estimate = query.estimateIndexedMatches(indexes);
+                if (estimate.isPresent() && (mostSelectiveQuery == null || estimate.getAsInt() < fewestMatches)) {
+                    mostSelectiveQuery = query;
+                    fewestMatches = estimate.getAsInt();
+                }
+            }
+            if (mostSelectiveQuery == null) {
+                return null;
+            }
+
+            // Only the most selective criterion is looked up; the rest are tested on its matches
+            Set<Person> candidates = mostSelectiveQuery.findIndexedMatches(indexes);
+            Set<Person> matches = newIdentitySet();
+            for (Person candidate : candidates) {
+                if (satisfiesAllBut(candidate, mostSelectiveQuery)) {
+                    matches.add(candidate);
+                }
+            }
+            return matches;
+        }
+
+        @Override
+        OptionalInt estimateIndexedMatches(PersonIndexes indexes) {
+            OptionalInt fewestMatches = OptionalInt.empty();
+            for (Query query : queries) {
+                OptionalInt estimate = query.estimateIndexedMatches(indexes);
+                if (estimate.isPresent()
+                        && (fewestMatches.isEmpty() || estimate.getAsInt() < fewestMatches.getAsInt())) {
+                    fewestMatches = estimate;
+                }
+            }
+            return fewestMatches;
+        }
+
+        private boolean satisfiesAllBut(Person candidate, Query skippedQuery) {
+            for (Query query : queries) {
+                if (query != skippedQuery && !query.test(candidate)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || other instanceof And && queries.equals(((And) other).queries);
+        }
+
+        @Override
+        public int hashCode() {
+            return queries.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("and", queries).toString();
+        }
+    }
+
+    private static final class Or extends Query {
+        private final List<Query> queries;
+
+        private Or(List<Query> queries) {
+            this.queries = List.copyOf(queries);
+        }
+
+        @Override
+        public boolean test(Person person) {
+            for (Query query : queries) {
+                if (query.test(person)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        Set<Person> findIndexedMatches(PersonIndexes indexes) {
+            Set<Person> matches = newIdentitySet();
+            for (Query query : queries) {
+                Set<Person> queryMatches = query.findIndexedMatches(indexes);
+                if (queryMatches == null) {
+                    return null;
+                }
+                matches.addAll(queryMatches);
+            }
+            return matches;
+        }
+
+        @Override
+        OptionalInt estimateIndexedMatches(PersonIndexes indexes) {
+            long estimate = 0;
+            for (Query query : queries) {
+                OptionalInt queryEstimate = query.estimateIndexedMatches(indexes);
+                if (queryEstimate.isEmpty()) {
+                    return OptionalInt.empty();
+                }
+                estimate += queryEstimate.getAsInt();
+            }
+            return OptionalInt.of((int) Math.min(estimate, indexes.size()));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || other instanceof Or && queries.equals(((Or) other).queries);
+        }
+
+        @Override
+        public int hashCode() {
+            return ~queries.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("or", queries).toString();
+        }
+    }
+
+    private static final class Not extends Query {
+        private final Query query;
+
+        private Not(Query query) {
+            this.query = requireNonNull(query);
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return !query.test(person);
+        }
+
+        @Override
+        Set<Person> findIndexedMatches(PersonIndexes indexes) {
+            return null;
+        }
+
+        @Override
+        OptionalInt estimateIndexedMatches(PersonIndexes indexes) {
+            return OptionalInt.empty();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || other instanceof Not && query.equals(((Not) other).query);
+        }
+
+        @Override
+        public int hashCode() {
+            return -query.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this).add("not", query).toString();
+        }
+    }
+}
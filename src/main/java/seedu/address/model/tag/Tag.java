@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.InternPool;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -13,6 +15,8 @@ public class Tag {
             + "and it should not be blank";
     public static final String VALIDATION_REGEX = "^[a-zA-Z0-9-]+$";
 
+    private static final InternPool<Tag> POOL = new InternPool<>(Tag::new, tag -> tag.tagName);
+
     public final String tagName;
 
     /**
@@ -26,6 +30,15 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} named {@code tagName}.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return POOL.intern(tagName);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -0,0 +1,78 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A pool of immutable value objects that hands out one shared instance for each distinct name.
+ * <p>
+ * Values such as tags, medicines and doctors repeat across many persons, so sharing them saves memory and lets
+ * {@code equals} succeed on its identity check. Values are only weakly held: one that no person uses any more is
+ * dropped from the pool. Each entry is a weak reference to the pooled value itself, so it is dropped exactly when that
+ * value is collected, whatever became of the string it was looked up by. The pool is safe to use from several threads.
+ *
+ * @param <T> the type of the pooled values.
+ */
+public class InternPool<T> {
+
+    private final Function<String, T> factory;
+    private final Function<T, String> nameOf;
+
+    /** A weak reference to each pooled value, keyed by the value's name. */
+    private final Map<String, PooledValue<T>> values = new HashMap<>();
+    /** Receives the references of pooled values once they are collected, so their entries can be removed. */
+    private final ReferenceQueue<T> collectedValues = new ReferenceQueue<>();
+
+    /**
+     * Creates a pool that creates missing values with {@code factory} and finds the name of a value with
+     * {@code nameOf}. {@code nameOf} must return the string the value was created from.
+     */
+    public InternPool(Function<String, T> factory, Function<T, String> nameOf) {
+        this.factory = factory;
+        this.nameOf = nameOf;
+    }
+
+    /**
+     * Returns the pooled value named {@code name}, creating it with the factory if there is none.
+     * Any exception thrown by the factory for an invalid name is passed on.
+     */
+    public synchronized T intern(String name) {
+        requireNonNull(name);
+        removeCollectedValues();
+        PooledValue<T> reference = values.get(name);
+        T value = reference == null ? null : reference.get();
+        if (value == null) {
+            value = factory.apply(name);
+            String valueName = nameOf.apply(value);
+            values.put(valueName, new PooledValue<>(value, valueName, collectedValues));
+        }
+        return value;
+    }
+
+    private void removeCollectedValues() {
+        Reference<? extends T> reference;
+        while ((reference = collectedValues.poll()) != null) {
+            PooledValue<?> collected = (PooledValue<?>) reference;
+            // The name may already have been pooled again, under a new reference that must be kept
+            values.remove(collected.name, collected);
+        }
+    }
+
+    /**
+     * A weak reference to a pooled value that remembers the name it is pooled under.
+     */
+    private static class PooledValue<T> extends WeakReference<T> {
+        private final String name;
+
+        PooledValue(T value, String name, ReferenceQueue<? super T> queue) {
+            super(value, queue);
+            this.name = name;
+        }
+    }
+}
@@ -22,7 +22,7 @@ import seedu.address.model.visit.DayList;
  */
 public class SampleDataUtil {
 
-    public static final Doctor SAMPLE_DOCTOR = new Doctor("William Reed");
+    public static final Doctor SAMPLE_DOCTOR = Doctor.of("William Reed");
 
     public static Person[] getSamplePersons() {
         return new Person[] {
@@ -66,7 +66,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
@@ -75,7 +75,7 @@ public class SampleDataUtil {
      */
     public static Set<Medicine> getMedicineSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Medicine::new)
+                .map(Medicine::of)
                 .collect(Collectors.toSet());
     }
 
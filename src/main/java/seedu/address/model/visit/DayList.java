@@ -1,39 +1,116 @@
 package seedu.address.model.visit;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
+import java.util.RandomAccess;
 
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Represents a list of days a patient has visited the clinic.
- * Guarantees: immutable; visit dates are valid and not null.
+ * Guarantees: immutable; visit dates are valid, not null and distinct.
+ * <p>
+ * The visit dates are held as an {@link EpochDaySet}, about four bytes per visit. {@code LocalDate}s are only
+ * created when a caller reads the dates. Adding or removing a visit takes O(log n) and shares the rest of the dates
+ * with the original DayList, which stays valid, so earlier versions can be kept for undo at little cost.
+ * <p>
+ * The dates are either held in memory or kept in a {@link VisitHistoryStore}. A stored DayList knows its size, first
+ * and last visit and hash code without loading anything. The dates themselves are loaded from the store each time a
+ * command reads them and are not kept by the DayList, so the store alone decides how many histories stay in memory.
+ * Saving copies the dates out of the store with {@link #toEpochDays()} without loading them.
  */
 public class DayList {
 
-    private final List<LocalDate> visitDates;
+    public static final String MESSAGE_DATE_OUT_OF_RANGE = "Visit dates must be within a few million years of 1970";
+
+    /** The most recent epoch day of a DayList without visits, which orders before every real visit. */
+    public static final long NEVER_VISITED = Long.MIN_VALUE;
+
+    /** The visit dates as epoch days, or null if they are kept in {@code store}. */
+    private final EpochDaySet epochDays;
+    private final VisitHistoryStore store;
+    private final long storeKey;
+    private final int visitCount;
+    private final int earliestEpochDay;
+    private final int mostRecentEpochDay;
+    private final int hashCode;
 
     /**
      * Constructs an empty DayList.
      */
     public DayList() {
-        this.visitDates = new ArrayList<>();
+        this(EpochDaySet.EMPTY);
     }
 
     /**
-     * Constructs a DayList with the given visit dates.
+     * Constructs a DayList with the given visit dates. Repeated dates are only kept once.
      *
      * @param visitDates A list of visit dates.
      */
     public DayList(List<LocalDate> visitDates) {
-        requireNonNull(visitDates);
-        this.visitDates = new ArrayList<>(visitDates);
-        Collections.sort(this.visitDates);
+        this(EpochDaySet.of(toAscendingEpochDays(visitDates)));
+    }
+
+    private DayList(EpochDaySet epochDays) {
+        this.epochDays = epochDays;
+        this.store = null;
+        this.storeKey = 0;
+        this.visitCount = epochDays.size();
+        this.earliestEpochDay = visitCount == 0 ? 0 : epochDays.first();
+        this.mostRecentEpochDay = visitCount == 0 ? 0 : epochDays.last();
+        this.hashCode = epochDays.hashCode();
+    }
+
+    private DayList(VisitHistoryStore store, long storeKey, DayList source) {
+        this.epochDays = null;
+        this.store = store;
+        this.storeKey = storeKey;
+        this.visitCount = source.visitCount;
+        this.earliestEpochDay = source.earliestEpochDay;
+        this.mostRecentEpochDay = source.mostRecentEpochDay;
+        this.hashCode = source.hashCode;
+    }
+
+    /**
+     * Returns a DayList equal to {@code source} whose visit dates are loaded from {@code store} when needed.
+     * The visit dates of {@code source} must already be stored in {@code store} under {@code storeKey}.
+     */
+    public static DayList stored(VisitHistoryStore store, long storeKey, DayList source) {
+        requireNonNull(store);
+        requireNonNull(source);
+        return new DayList(store, storeKey, source);
+    }
+
+    /**
+     * Returns true if the visit dates are kept in a {@link VisitHistoryStore} rather than in memory.
+     */
+    public boolean isStored() {
+        return epochDays == null;
+    }
+
+    /**
+     * Returns the visit dates of a stored DayList, as ascending epoch days shared with the store.
+     */
+    private int[] load() {
+        return store.load(storeKey);
+    }
+
+    private EpochDaySet days() {
+        return epochDays != null ? epochDays : EpochDaySet.of(load());
+    }
+
+    /**
+     * Returns the visit dates as ascending epoch days, in a new array.
+     * The dates of a stored DayList are copied straight from the store, so writing out every history, as a save
+     * does, does not evict other histories from the store's cache.
+     */
+    public int[] toEpochDays() {
+        return epochDays != null ? epochDays.toArray() : store.copy(storeKey);
     }
 
     /**
@@ -43,12 +120,11 @@ public class DayList {
      */
     public DayList addVisitDate(LocalDate visitDate) {
         requireNonNull(visitDate);
-        List<LocalDate> newVisitDates = new ArrayList<>(this.visitDates);
-        if (!newVisitDates.contains(visitDate)) {
-            newVisitDates.add(visitDate);
-            Collections.sort(newVisitDates);
+        int epochDay = toEpochDay(visitDate);
+        if (hasVisitDate(visitDate)) {
+            return this;
         }
-        return new DayList(newVisitDates);
+        return new DayList(days().add(epochDay));
     }
 
     /**
@@ -58,16 +134,18 @@ public class DayList {
      */
     public DayList removeVisitDate(LocalDate visitDate) {
         requireNonNull(visitDate);
-        List<LocalDate> newVisitDates = new ArrayList<>(this.visitDates);
-        newVisitDates.remove(visitDate);
-        return new DayList(newVisitDates);
+        if (!hasVisitDate(visitDate)) {
+            return this;
+        }
+
+        return new DayList(days().remove((int) visitDate.toEpochDay()));
     }
 
     /**
      * Returns an immutable view of the visit dates list.
      */
     public List<LocalDate> getVisitDates() {
-        return Collections.unmodifiableList(visitDates);
+        return new VisitDates(epochDays != null ? epochDays.toArray() : load());
     }
 
     /**
@@ -75,28 +153,90 @@ public class DayList {
      */
     public boolean hasVisitDate(LocalDate visitDate) {
         requireNonNull(visitDate);
-        return visitDates.contains(visitDate);
+        long epochDay = visitDate.toEpochDay();
+        if (visitCount == 0 || epochDay < earliestEpochDay || epochDay > mostRecentEpochDay) {
+            return false;
+        }
+        if (epochDays != null) {
+            return epochDays.contains((int) epochDay);
+        }
+        return Arrays.binarySearch(load(), (int) epochDay) >= 0;
+    }
+
+    /**
+     * Returns true if there is a visit from {@code from} to {@code to}, inclusive.
+     */
+    public boolean hasVisitBetween(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        long fromEpochDay = Math.max(from.toEpochDay(), earliestEpochDay);
+        long toEpochDay = Math.min(to.toEpochDay(), mostRecentEpochDay);
+        if (visitCount == 0 || fromEpochDay > toEpochDay) {
+            return false;
+        }
+        if (epochDays != null) {
+            return epochDays.containsBetween((int) fromEpochDay, (int) toEpochDay);
+        }
+        int[] days = load();
+        int position = Arrays.binarySearch(days, (int) fromEpochDay);
+        int firstOnOrAfter = position >= 0 ? position : -position - 1;
+        return firstOnOrAfter < days.length && days[firstOnOrAfter] <= toEpochDay;
     }
 
     /**
      * Returns the number of visits.
      */
     public int getVisitCount() {
-        return visitDates.size();
+        return visitCount;
     }
 
     /**
      * Returns the most recent visit date, or null if no visits.
      */
     public LocalDate getMostRecentVisit() {
-        return visitDates.isEmpty() ? null : visitDates.get(visitDates.size() - 1);
+        return visitCount == 0 ? null : LocalDate.ofEpochDay(mostRecentEpochDay);
+    }
+
+    /**
+     * Returns the most recent visit date as an epoch day, or {@link #NEVER_VISITED} if no visits.
+     * Unlike {@link #getMostRecentVisit()}, this creates no {@code LocalDate}, so sorting by it stays cheap.
+     */
+    public long getMostRecentEpochDay() {
+        return visitCount == 0 ? NEVER_VISITED : mostRecentEpochDay;
     }
 
     /**
      * Returns the earliest visit date, or null if no visits.
      */
     public LocalDate getEarliestVisit() {
-        return visitDates.isEmpty() ? null : visitDates.get(0);
+        return visitCount == 0 ? null : LocalDate.ofEpochDay(earliestEpochDay);
+    }
+
+    /**
+     * Returns {@code visitDates} as ascending, distinct epoch days.
+     */
+    private static int[] toAscendingEpochDays(List<LocalDate> visitDates) {
+        requireNonNull(visitDates);
+        int[] days = new int[visitDates.size()];
+        int count = 0;
+        for (LocalDate visitDate : visitDates) {
+            days[count++] = toEpochDay(requireNonNull(visitDate));
+        }
+        Arrays.sort(days);
+
+        int distinctCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinctCount == 0 || days[i] != days[distinctCount - 1]) {
+                days[distinctCount++] = days[i];
+            }
+        }
+        return distinctCount == days.length ? days : Arrays.copyOf(days, distinctCount);
+    }
+
+    private static int toEpochDay(LocalDate visitDate) {
+        long epochDay = visitDate.toEpochDay();
+        checkArgument(epochDay == (int) epochDay, MESSAGE_DATE_OUT_OF_RANGE);
+        return (int) epochDay;
     }
 
     @Override
@@ -110,18 +250,52 @@ public class DayList {
         }
 
         DayList otherDayList = (DayList) other;
-        return visitDates.equals(otherDayList.visitDates);
+        if (store != null && store == otherDayList.store && storeKey == otherDayList.storeKey) {
+            return true;
+        }
+        if (visitCount != otherDayList.visitCount
+                || hashCode != otherDayList.hashCode
+                || earliestEpochDay != otherDayList.earliestEpochDay
+                || mostRecentEpochDay != otherDayList.mostRecentEpochDay) {
+            return false;
+        }
+        if (epochDays != null && otherDayList.epochDays != null) {
+            return epochDays.equals(otherDayList.epochDays);
+        }
+        // Copied rather than loaded, so that comparing does not keep stored histories in memory
+        return Arrays.equals(toEpochDays(), otherDayList.toEpochDays());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(visitDates);
+        return hashCode;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("visitDates", visitDates)
+                .add("visitDates", getVisitDates())
                 .toString();
     }
+
+    /**
+     * An unmodifiable list view of ascending epoch days as {@code LocalDate}s.
+     */
+    private static class VisitDates extends AbstractList<LocalDate> implements RandomAccess {
+        private final int[] epochDays;
+
+        private VisitDates(int[] epochDays) {
+            this.epochDays = epochDays;
+        }
+
+        @Override
+        public LocalDate get(int index) {
+            return LocalDate.ofEpochDay(epochDays[index]);
+        }
+
+        @Override
+        public int size() {
+            return epochDays.length;
+        }
+    }
 }
@@ -0,0 +1,374 @@
+package seedu.address.model.visit;
+
+import java.util.Arrays;
+
+/**
+ * An immutable, sorted set of epoch days that shares structure between versions.
+ * <p>
+ * The days are kept in a B+ tree whose leaves are small sorted {@code int} arrays, so a day still takes about four
+ * bytes. Adding or removing a day copies only the leaf it falls in and the branches above it, which is
+ * O(log n), and leaves every earlier version intact. Nodes emptied by removals are dropped, but underfull nodes
+ * are not merged; visits are rarely removed, so this never costs more than a little depth.
+ * <p>
+ * The hash code is the sum of a mix of each day, so it can be updated in constant time as days are added and
+ * removed.
+ */
+final class EpochDaySet {
+
+    /** The most keys in a leaf, and the most children of a branch. */
+    static final int MAX_WIDTH = 32;
+
+    static final EpochDaySet EMPTY = new EpochDaySet(new Leaf(new int[0]), 0);
+
+    private final Node root;
+    private final int hash;
+
+    private EpochDaySet(Node root, int hash) {
+        this.root = root;
+        this.hash = hash;
+    }
+
+    /**
+     * Returns the set of {@code epochDays}, which must be ascending and distinct.
+     */
+    static EpochDaySet of(int[] epochDays) {
+        if (epochDays.length == 0) {
+            return EMPTY;
+        }
+
+        int hash = 0;
+        Node[] level = new Node[(epochDays.length + MAX_WIDTH - 1) / MAX_WIDTH];
+        for (int i = 0; i < level.length; i++) {
+            int from = i * MAX_WIDTH;
+            int[] keys = Arrays.copyOfRange(epochDays, from, Math.min(from + MAX_WIDTH, epochDays.length));
+            for (int key : keys) {
+                hash += mix(key);
+            }
+            level[i] = new Leaf(keys);
+        }
+        while (level.length > 1) {
+            Node[] parents = new Node[(level.length + MAX_WIDTH - 1) / MAX_WIDTH];
+            for (int i = 0; i < parents.length; i++) {
+                int from = i * MAX_WIDTH;
+                parents[i] = new Branch(Arrays.copyOfRange(level, from, Math.min(from + MAX_WIDTH, level.length)));
+            }
+            level = parents;
+        }
+        return new EpochDaySet(level[0], hash);
+    }
+
+    int size() {
+        return root.size();
+    }
+
+    /**
+     * Returns the smallest day. The set must not be empty.
+     */
+    int first() {
+        return root.first();
+    }
+
+    /**
+     * Returns the largest day. The set must not be empty.
+     */
+    int last() {
+        return root.last();
+    }
+
+    boolean contains(int epochDay) {
+        return root.size() > 0 && root.contains(epochDay);
+    }
+
+    /**
+     * Returns true if the set contains a day from {@code from} to {@code to}, inclusive.
+     */
+    boolean containsBetween(int from, int to) {
+        return root.size() > 0 && from <= to && root.containsBetween(from, to);
+    }
+
+    /**
+     * Returns this set with {@code epochDay} added, or this set itself if it already contains it.
+     */
+    EpochDaySet add(int epochDay) {
+        Node newRoot = root.add(epochDay);
+        if (newRoot == root) {
+            return this;
+        }
+        if (newRoot.width() > MAX_WIDTH) {
+            newRoot = new Branch(newRoot.split());
+        }
+        return new EpochDaySet(newRoot, hash + mix(epochDay));
+    }
+
+    /**
+     * Returns this set with {@code epochDay} removed, or this set itself if it does not contain it.
+     */
+    EpochDaySet remove(int epochDay) {
+        if (!contains(epochDay)) {
+            return this;
+        }
+        Node newRoot = root.remove(epochDay);
+        while (newRoot instanceof Branch && newRoot.width() == 1) {
+            newRoot = ((Branch) newRoot).children[0];
+        }
+        return newRoot.size() == 0 ? EMPTY : new EpochDaySet(newRoot, hash - mix(epochDay));
+    }
+
+    /**
+     * Returns the days in ascending order, in a new array.
+     */
+    int[] toArray() {
+        int[] epochDays = new int[size()];
+        root.copyTo(epochDays, 0);
+        return epochDays;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof EpochDaySet)) {
+            return false;
+        }
+
+        EpochDaySet otherSet = (EpochDaySet) other;
+        return hash == otherSet.hash
+                && size() == otherSet.size()
+                && Arrays.equals(toArray(), otherSet.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    private static int mix(int epochDay) {
+        int h = epochDay * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * A node of the tree. Nodes are immutable; an update returns a new node, or the same node if nothing changed.
+     * A returned node may be one wider than {@link #MAX_WIDTH}, in which case its parent splits it.
+     */
+    private abstract static class Node {
+        abstract int size();
+
+        abstract int width();
+
+        abstract int first();
+
+        abstract int last();
+
+        abstract boolean contains(int key);
+
+        /** Returns true if this node has a key from {@code from} to {@code to}, inclusive. */
+        abstract boolean containsBetween(int from, int to);
+
+        abstract Node add(int key);
+
+        /** Removes {@code key}, which this node must contain. */
+        abstract Node remove(int key);
+
+        /** Returns this node split into two halves. */
+        abstract Node[] split();
+
+        abstract void copyTo(int[] destination, int offset);
+    }
+
+    private static final class Leaf extends Node {
+        private final int[] keys;
+
+        private Leaf(int[] keys) {
+            this.keys = keys;
+        }
+
+        @Override
+        int size() {
+            return keys.length;
+        }
+
+        @Override
+        int width() {
+            return keys.length;
+        }
+
+        @Override
+        int first() {
+            return keys[0];
+        }
+
+        @Override
+        int last() {
+            return keys[keys.length - 1];
+        }
+
+        @Override
+        boolean contains(int key) {
+            return Arrays.binarySearch(keys, key) >= 0;
+        }
+
+        @Override
+        boolean containsBetween(int from, int to) {
+            int index = Arrays.binarySearch(keys, from);
+            int ceilingIndex = index >= 0 ? index : -index - 1;
+            return ceilingIndex < keys.length && keys[ceilingIndex] <= to;
+        }
+
+        @Override
+        Node add(int key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                return this;
+            }
+            int insertionPoint = -index - 1;
+            int[] newKeys = new int[keys.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertionPoint);
+            newKeys[insertionPoint] = key;
+            System.arraycopy(keys, insertionPoint, newKeys, insertionPoint + 1, keys.length - insertionPoint);
+            return new Leaf(newKeys);
+        }
+
+        @Override
+        Node remove(int key) {
+            int index = Arrays.binarySearch(keys, key);
+            int[] newKeys = new int[keys.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, newKeys.length - index);
+            return new Leaf(newKeys);
+        }
+
+        @Override
+        Node[] split() {
+            int half = keys.length / 2;
+            return new Node[] {
+                new Leaf(Arrays.copyOfRange(keys, 0, half)), new Leaf(Arrays.copyOfRange(keys, half, keys.length))
+            };
+        }
+
+        @Override
+        void copyTo(int[] destination, int offset) {
+            System.arraycopy(keys, 0, destination, offset, keys.length);
+        }
+    }
+
+    private static final class Branch extends Node {
+        private final Node[] children;
+        /** The first key of each child, to find the child a key belongs to. */
+        private final int[] firstKeys;
+        private final int size;
+
+        private Branch(Node[] children) {
+            this.children = children;
+            this.firstKeys = new int[children.length];
+            int totalSize = 0;
+            for (int i = 0; i < children.length; i++) {
+                firstKeys[i] = children[i].first();
+                totalSize += children[i].size();
+            }
+            this.size = totalSize;
+        }
+
+        /**
+         * Returns the index of the child whose range {@code key} falls in.
+         */
+        private int childIndex(int key) {
+            int index = Arrays.binarySearch(firstKeys, key);
+            return index >= 0 ? index : Math.max(0, -index - 2);
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        int width() {
+            return children.length;
+        }
+
+        @Override
+        int first() {
+            return firstKeys[0];
+        }
+
+        @Override
+        int last() {
+            return children[children.length - 1].last();
+        }
+
+        @Override
+        boolean contains(int key) {
+            return children[childIndex(key)].contains(key);
+        }
+
+        @Override
+        boolean containsBetween(int from, int to) {
+            // The child after the one from falls in starts with the first key after that child's keys
+            int index = childIndex(from);
+            return children[index].containsBetween(from, to)
+                    || index + 1 < children.length && firstKeys[index + 1] <= to;
+        }
+
+        @Override
+        Node add(int key) {
+            int index = childIndex(key);
+            Node child = children[index];
+            Node newChild = child.add(key);
+            if (newChild == child) {
+                return this;
+            }
+            if (newChild.width() <= MAX_WIDTH) {
+                Node[] newChildren = children.clone();
+                newChildren[index] = newChild;
+                return new Branch(newChildren);
+            }
+
+            Node[] halves = newChild.split();
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newChildren[index] = halves[0];
+            newChildren[index + 1] = halves[1];
+            System.arraycopy(children, index + 1, newChildren, index + 2, children.length - index - 1);
+            return new Branch(newChildren);
+        }
+
+        @Override
+        Node remove(int key) {
+            int index = childIndex(key);
+            Node newChild = children[index].remove(key);
+            if (newChild.size() > 0) {
+                Node[] newChildren = children.clone();
+                newChildren[index] = newChild;
+                return new Branch(newChildren);
+            }
+            if (children.length == 1) {
+                return newChild;
+            }
+
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index + 1, newChildren, index, newChildren.length - index);
+            return new Branch(newChildren);
+        }
+
+        @Override
+        Node[] split() {
+            int half = children.length / 2;
+            return new Node[] {
+                new Branch(Arrays.copyOfRange(children, 0, half)),
+                new Branch(Arrays.copyOfRange(children, half, children.length))
+            };
+        }
+
+        @Override
+        void copyTo(int[] destination, int offset) {
+            for (Node child : children) {
+                child.copyTo(destination, offset);
+                offset += child.size();
+            }
+        }
+    }
+}
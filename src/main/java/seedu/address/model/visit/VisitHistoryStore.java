@@ -0,0 +1,27 @@
+package seedu.address.model.visit;
+
+/**
+ * Keeps visit histories outside the heap and loads them back on demand.
+ * A {@link DayList} created with {@link DayList#stored(VisitHistoryStore, long, DayList)} reads its visit dates
+ * from a store only when they are actually needed.
+ */
+public interface VisitHistoryStore {
+
+    /**
+     * Returns the visit dates stored under {@code key}, as ascending epoch days.
+     * The returned array may be shared and must not be modified.
+     *
+     * @throws java.io.UncheckedIOException if the history cannot be read.
+     */
+    int[] load(long key);
+
+    /**
+     * Returns a copy of the visit dates stored under {@code key}, as ascending epoch days, read straight from the
+     * store. Unlike {@link #load(long)}, the history is not cached, so copying every history out does not evict the
+     * ones in use.
+     *
+     * @throws java.io.UncheckedIOException if the history cannot be read.
+     */
+    int[] copy(long key);
+
+}
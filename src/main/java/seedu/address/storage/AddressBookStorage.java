@@ -3,9 +3,12 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
@@ -30,6 +33,28 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Similar to {@link #readAddressBook(Path)}, but passes each person through {@code personMapper} and keeps the
+     * person it returns instead. Storages that read their file one person at a time map each person as soon as it
+     * is read, so that the persons as read are never all held in memory at once. The default implementation reads
+     * the whole address book first.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    default Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, UnaryOperator<Person> personMapper)
+            throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook(filePath);
+        if (addressBook.isEmpty()) {
+            return addressBook;
+        }
+
+        AddressBook mappedAddressBook = new AddressBook();
+        for (Person person : addressBook.get().getPersonList()) {
+            mappedAddressBook.addPerson(personMapper.apply(person));
+        }
+        return Optional.of(mappedAddressBook);
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -0,0 +1,359 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Doctor;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.visit.DayList;
+
+/**
+ * Reads and writes the compact binary address book format.
+ * <p>
+ * Layout (version 1), where {@code varint} is an unsigned LEB128 integer and {@code string} is a varint byte
+ * length followed by that many bytes of UTF-8:
+ * <pre>
+ * int    magic ("ABKB")
+ * varint format version
+ * varint string table size, then that many strings (doctor, tag and medicine names)
+ * varint person count, then for each person:
+ *     string name, phone, email, address
+ *     varint string table index of the doctor
+ *     varint tag count, then a string table index per tag
+ *     varint medicine count, then a string table index per medicine
+ *     varint visit count, then the first visit as a zigzag-encoded epoch day and each later visit as the
+ *            number of days since the previous one
+ * </pre>
+ * Values shared by many persons are stored, and validated on load, only once.
+ */
+final class BinaryAddressBookFormat {
+
+    static final int MAGIC = 0x41424B42;
+    static final int VERSION = 1;
+
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version %d";
+    static final String MESSAGE_INVALID_STRING_INDEX = "Invalid string table index %d";
+    static final String MESSAGE_COUNT_EXCEEDS_FILE = "Count %d exceeds the %d bytes left in the file";
+
+    private BinaryAddressBookFormat() {}
+
+    /**
+     * Returns true if {@code filePath} starts with the binary format's magic number.
+     */
+    static boolean isBinaryFile(Path filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] header = in.readNBytes(Integer.BYTES);
+            return header.length == Integer.BYTES
+                    && ((header[0] & 0xFF) << 24 | (header[1] & 0xFF) << 16
+                    | (header[2] & 0xFF) << 8 | (header[3] & 0xFF)) == MAGIC;
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the binary format.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (Person person : persons) {
+            stringTable.putIfAbsent(person.getDoctor().name, stringTable.size());
+            for (Tag tag : person.getTags()) {
+                stringTable.putIfAbsent(tag.tagName, stringTable.size());
+            }
+            for (Medicine medicine : person.getMedicines()) {
+                stringTable.putIfAbsent(medicine.medicineName, stringTable.size());
+            }
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        writeVarint(data, VERSION);
+        writeVarint(data, stringTable.size());
+        for (String value : stringTable.keySet()) {
+            writeString(data, value);
+        }
+
+        writeVarint(data, persons.size());
+        for (Person person : persons) {
+            writeString(data, person.getName().fullName);
+            writeString(data, person.getPhone().value);
+            writeString(data, person.getEmail().value);
+            writeString(data, person.getAddress().value);
+            writeVarint(data, stringTable.get(person.getDoctor().name));
+            writeVarint(data, person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                writeVarint(data, stringTable.get(tag.tagName));
+            }
+            writeVarint(data, person.getMedicines().size());
+            for (Medicine medicine : person.getMedicines()) {
+                writeVarint(data, stringTable.get(medicine.medicineName));
+            }
+            writeVisitDates(data, person.getDayList().toEpochDays());
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads the binary address book stored at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read or is not a well-formed binary address book.
+     * @throws IllegalValueException if a person violates the model's constraints or is a duplicate.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, UnaryOperator.identity());
+    }
+
+    /**
+     * Reads the binary address book stored at {@code filePath}, passing each person through {@code personMapper} as
+     * soon as it is read.
+     *
+     * @throws IOException if the file cannot be read or is not a well-formed binary address book.
+     * @throws IllegalValueException if a person violates the model's constraints or is a duplicate.
+     */
+    static AddressBook read(Path filePath, UnaryOperator<Person> personMapper)
+            throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+             DataInputStream data = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)))) {
+            return new Reader(data, channel.size(), personMapper).read();
+        }
+    }
+
+    private static void writeVisitDates(DataOutputStream data, int[] epochDays) throws IOException {
+        writeVarint(data, epochDays.length);
+        long previous = 0;
+        for (int i = 0; i < epochDays.length; i++) {
+            long epochDay = epochDays[i];
+            if (i == 0) {
+                writeVarint(data, (epochDay << 1) ^ (epochDay >> 63));
+            } else {
+                writeVarint(data, epochDay - previous);
+            }
+            previous = epochDay;
+        }
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(data, bytes.length);
+        data.write(bytes);
+    }
+
+    private static void writeVarint(DataOutputStream data, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            data.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.writeByte((int) value);
+    }
+
+    /**
+     * Decodes one binary address book, keeping the model objects made from string table entries so that each
+     * distinct doctor, tag or medicine is validated and created only once.
+     * <p>
+     * Every element that a count is read for takes at least one byte, so counts are checked against the bytes left
+     * in the file before anything is allocated for them. A corrupt count then fails the read instead of asking for
+     * an array far larger than the file.
+     */
+    private static class Reader {
+        private final DataInputStream data;
+        private final UnaryOperator<Person> personMapper;
+        private long remainingBytes;
+        private String[] strings;
+        private Doctor[] doctors;
+        private Tag[] tags;
+        private Medicine[] medicines;
+
+        Reader(DataInputStream data, long fileSize, UnaryOperator<Person> personMapper) {
+            this.data = data;
+            this.personMapper = personMapper;
+            this.remainingBytes = fileSize;
+        }
+
+        AddressBook read() throws IOException, IllegalValueException {
+            remainingBytes -= Integer.BYTES;
+            if (data.readInt() != MAGIC) {
+                throw new IOException("Not a binary address book file");
+            }
+            long version = readVarint();
+            if (version != VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            int stringCount = readCount();
+            strings = new String[stringCount];
+            for (int i = 0; i < stringCount; i++) {
+                strings[i] = readString();
+            }
+            doctors = new Doctor[stringCount];
+            tags = new Tag[stringCount];
+            medicines = new Medicine[stringCount];
+
+            AddressBook addressBook = new AddressBook();
+            int personCount = readCount();
+            for (int i = 0; i < personCount; i++) {
+                Person person = readPerson();
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(personMapper.apply(person));
+            }
+
+            if (data.read() != -1) {
+                throw new IOException("Unexpected data after the last person");
+            }
+            return addressBook;
+        }
+
+        private Person readPerson() throws IOException, IllegalValueException {
+            String name = readString();
+            checkValid(Name.isValidName(name), Name.MESSAGE_CONSTRAINTS);
+            String phone = readString();
+            checkValid(Phone.isValidPhone(phone), Phone.MESSAGE_CONSTRAINTS);
+            String email = readString();
+            checkValid(Email.isValidEmail(email), Email.MESSAGE_CONSTRAINTS);
+            String address = readString();
+            checkValid(Address.isValidAddress(address), Address.MESSAGE_CONSTRAINTS);
+            Doctor doctor = readDoctor();
+
+            int tagCount = readCount();
+            Set<Tag> personTags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                personTags.add(readTag());
+            }
+
+            int medicineCount = readCount();
+            Set<Medicine> personMedicines = new HashSet<>();
+            for (int i = 0; i < medicineCount; i++) {
+                personMedicines.add(readMedicine());
+            }
+
+            return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address), doctor,
+                    personTags, personMedicines, readDayList());
+        }
+
+        private Doctor readDoctor() throws IOException, IllegalValueException {
+            int index = readStringIndex();
+            if (doctors[index] == null) {
+                checkValid(Doctor.isValidDoctor(strings[index]), Doctor.MESSAGE_CONSTRAINTS);
+                doctors[index] = Doctor.of(strings[index]);
+            }
+            return doctors[index];
+        }
+
+        private Tag readTag() throws IOException, IllegalValueException {
+            int index = readStringIndex();
+            if (tags[index] == null) {
+                checkValid(Tag.isValidTagName(strings[index]), Tag.MESSAGE_CONSTRAINTS);
+                tags[index] = Tag.of(strings[index]);
+            }
+            return tags[index];
+        }
+
+        private Medicine readMedicine() throws IOException, IllegalValueException {
+            int index = readStringIndex();
+            if (medicines[index] == null) {
+                checkValid(Medicine.isValidMedicineName(strings[index]), Medicine.MESSAGE_CONSTRAINTS);
+                medicines[index] = Medicine.of(strings[index]);
+            }
+            return medicines[index];
+        }
+
+        private DayList readDayList() throws IOException, IllegalValueException {
+            int visitCount = readCount();
+            List<LocalDate> visitDates = new ArrayList<>(visitCount);
+            long epochDay = 0;
+            for (int i = 0; i < visitCount; i++) {
+                long value = readVarint();
+                if (i == 0) {
+                    epochDay = (value >>> 1) ^ -(value & 1);
+                } else {
+                    checkValid(value > 0, "Visit dates are not in increasing order");
+                    epochDay += value;
+                }
+                try {
+                    visitDates.add(LocalDate.ofEpochDay(epochDay));
+                } catch (DateTimeException e) {
+                    throw new IllegalValueException("Invalid date in visit dates: " + e.getMessage());
+                }
+            }
+            return new DayList(visitDates);
+        }
+
+        private int readStringIndex() throws IOException, IllegalValueException {
+            long index = readVarint();
+            checkValid(index < strings.length, String.format(MESSAGE_INVALID_STRING_INDEX, index));
+            return (int) index;
+        }
+
+        private String readString() throws IOException {
+            byte[] bytes = new byte[readCount()];
+            data.readFully(bytes);
+            remainingBytes -= bytes.length;
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Reads a varint that counts elements or bytes still to come in the file.
+         *
+         * @throws IOException if there are fewer bytes left in the file than the count.
+         */
+        private int readCount() throws IOException {
+            long count = readVarint();
+            if (count < 0 || count > remainingBytes) {
+                throw new IOException(String.format(MESSAGE_COUNT_EXCEEDS_FILE, count, remainingBytes));
+            }
+            return (int) count;
+        }
+
+        private long readVarint() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                int b = data.read();
+                if (b == -1) {
+                    throw new EOFException("Unexpected end of binary address book");
+                }
+                remainingBytes--;
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint");
+        }
+
+        private static void checkValid(boolean condition, String message) throws IllegalValueException {
+            if (!condition) {
+                throw new IllegalValueException(message);
+            }
+        }
+    }
+}
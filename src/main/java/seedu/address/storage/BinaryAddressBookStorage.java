@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored in the compact binary format described in
+ * {@link BinaryAddressBookFormat}.
+ * Files are told apart by their content rather than their name: a file that is still in JSON is read as JSON, so
+ * switching an existing data file to this format converts it on the next save. Saving to any other file with the
+ * JSON extension writes JSON, so the data can be exported to other tools without switching formats.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    /** Reused across saves so that its buffer is allocated only once. */
+    private final AtomicFileWriter fileWriter = new AtomicFileWriter();
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, UnaryOperator.identity());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}.
+     * Each person is passed through {@code personMapper} as soon as it is read.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, UnaryOperator<Person> personMapper)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(personMapper);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (!BinaryAddressBookFormat.isBinaryFile(filePath)) {
+                logger.info("Data file " + filePath + " is not in the binary format, reading it as JSON");
+                return Optional.of(JsonAddressBookReader.read(filePath, personMapper));
+            }
+            logger.info("Binary file " + filePath + " found.");
+            return Optional.of(BinaryAddressBookFormat.read(filePath, personMapper));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced atomically, so a failed or interrupted save leaves the previous data intact.
+     * A file other than this storage's own with the JSON extension is written in JSON instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath) && AddressBookFormat.JSON.hasFileExtension(filePath)) {
+            new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+            return;
+        }
+        fileWriter.write(filePath, out -> BinaryAddressBookFormat.write(addressBook, out));
+    }
+
+}
@@ -0,0 +1,343 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.PersonListChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * An {@code AddressBookStorage} that keeps an append-only journal of changes next to a snapshot file.
+ * Each save appends only the persons that changed since the previous save. The journal is folded back into
+ * the snapshot (compacted) once it grows past a threshold, or when a single save changes most of the list.
+ *
+ * The changes are taken from the address book's {@link PersonListChange}s since the last save, so a save only
+ * goes through what changed. When they are not known, as for the first save after loading, the saved persons are
+ * compared with the persisted ones by reference instead, which persons being immutable allows.
+ *
+ * The journal header holds the size and checksum of the snapshot it was written for, so a journal is never replayed
+ * on top of a different snapshot, even one of the same size written within the same file time.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final int compactionThreshold;
+    private final AtomicFileWriter fileWriter = new AtomicFileWriter();
+
+    /** The latest change that is persisted in snapshot and journal, or null if unknown. */
+    private PersonListChange persistedChange;
+    /** Persons as they are currently persisted in snapshot and journal, or null if unknown or not needed. */
+    private List<Person> persistedPersons;
+    private int journalEntryCount;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that journals changes to the snapshot in {@code snapshotStorage}.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that compacts after {@code compactionThreshold} journal entries.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        assert compactionThreshold > 0;
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot file.
+     */
+    public Path getJournalFilePath() {
+        Path snapshotPath = getAddressBookFilePath();
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal is only replayed when {@code filePath} is this storage's own snapshot file.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return snapshot;
+        }
+
+        persistedChange = null;
+        persistedPersons = null;
+        if (!snapshot.isPresent()) {
+            return snapshot;
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        boolean isJournalIntact;
+        try {
+            isJournalIntact = replayJournal(persons);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Could not replay journal " + getJournalFilePath() + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        // A journal that could not be fully replayed is rewritten by the next save.
+        if (isJournalIntact) {
+            persistedPersons = persons;
+        }
+        if (journalEntryCount == 0) {
+            return snapshot;
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException dpe) {
+            throw new DataLoadingException(new IllegalValueException(
+                    JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, dpe));
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies the entries of the journal to {@code persons}.
+     * Returns false if the journal is missing, belongs to an older snapshot, or ends in a torn entry,
+     * in which case it must be rewritten before anything is appended to it.
+     */
+    private boolean replayJournal(List<Person> persons) throws IOException, IllegalValueException {
+        Path journalPath = getJournalFilePath();
+        journalEntryCount = 0;
+        if (!Files.exists(journalPath)) {
+            return false;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null || !readHeader(headerLine).matches(getAddressBookFilePath())) {
+                logger.info("Ignoring journal " + journalPath + " as it was not written for the current snapshot.");
+                return false;
+            }
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                JsonAdaptedJournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+                } catch (IOException ioe) {
+                    logger.warning("Stopped replaying journal " + journalPath + " at a torn entry: " + ioe);
+                    return false;
+                }
+                entry.applyTo(persons);
+                journalEntryCount++;
+            }
+        }
+
+        logger.info("Replayed " + journalEntryCount + " journal entries from " + journalPath);
+        return true;
+    }
+
+    private JsonAdaptedJournalHeader readHeader(String headerLine) {
+        try {
+            return JsonUtil.fromJsonString(headerLine, JsonAdaptedJournalHeader.class);
+        } catch (IOException ioe) {
+            return new JsonAdaptedJournalHeader(-1, -1);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to any file other than this storage's own snapshot file always writes a full snapshot there.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        Optional<List<PersonListChange>> changes = persistedChange == null
+                ? Optional.empty()
+                : addressBook.getLatestChange().flatMap(latest -> latest.getChangesSince(persistedChange));
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        int changedCount;
+        if (changes.isPresent()) {
+            changedCount = toEntries(changes.get(), entries);
+        } else if (persistedPersons != null) {
+            changedCount = diff(persistedPersons, persons, entries);
+        } else {
+            compact(addressBook);
+            return;
+        }
+
+        if (entries.isEmpty()) {
+            markPersisted(addressBook);
+            return;
+        }
+        if (journalEntryCount + entries.size() > compactionThreshold || changedCount > persons.size()) {
+            compact(addressBook);
+            return;
+        }
+
+        appendToJournal(entries);
+        journalEntryCount += entries.size();
+        markPersisted(addressBook);
+    }
+
+    /**
+     * Records that the persons of {@code addressBook} are now persisted in snapshot and journal.
+     * Only the latest change is remembered if the address book tracks its changes; the persons are copied otherwise.
+     */
+    private void markPersisted(ReadOnlyAddressBook addressBook) {
+        persistedChange = addressBook.getLatestChange().orElse(null);
+        persistedPersons = persistedChange == null ? new ArrayList<>(addressBook.getPersonList()) : null;
+    }
+
+    /**
+     * Writes {@code addressBook} as a full snapshot and starts a new, empty journal for it.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        Path snapshotPath = getAddressBookFilePath();
+        persistedChange = null;
+        persistedPersons = null;
+
+        snapshotStorage.saveAddressBook(addressBook, snapshotPath);
+        JsonAdaptedJournalHeader header = JsonAdaptedJournalHeader.of(snapshotPath);
+        // Replaced atomically, so a crash leaves either the old journal, which no longer matches the new snapshot
+        // and is ignored, or the new empty one.
+        byte[] headerLine = toLine(header);
+        fileWriter.write(getJournalFilePath(), out -> out.write(headerLine));
+
+        journalEntryCount = 0;
+        markPersisted(addressBook);
+        logger.fine("Compacted journal into snapshot " + snapshotPath);
+    }
+
+    /**
+     * Appends {@code entries} to the journal in a single write and forces them to the device.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+
+        try (FileChannel channel = FileChannel.open(getJournalFilePath(),
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    private static byte[] toLine(Object value) throws IOException {
+        return (JsonUtil.toCompactJsonString(value) + '\n').getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Adds to {@code entries} one entry for each of {@code changes}.
+     *
+     * @return the number of persons removed and added by the entries.
+     */
+    private static int toEntries(List<PersonListChange> changes, List<JsonAdaptedJournalEntry> entries) {
+        int changedCount = 0;
+        for (PersonListChange change : changes) {
+            entries.add(JsonAdaptedJournalEntry.of(change.getPosition(), change.getRemovedCount(),
+                    change.getAddedPersons()));
+            changedCount += change.getRemovedCount() + change.getAddedPersons().size();
+        }
+        return changedCount;
+    }
+
+    /**
+     * Adds to {@code entries} the changes that turn {@code before} into {@code after}, comparing persons by reference.
+     * When both lists have the same size, each run of replaced positions becomes its own entry; otherwise the
+     * lists are trimmed of their common prefix and suffix and the remaining middle becomes one entry.
+     *
+     * @return the number of persons removed and added by the entries.
+     */
+    static int diff(List<Person> before, List<Person> after, List<JsonAdaptedJournalEntry> entries) {
+        int changedCount = 0;
+
+        if (before.size() == after.size()) {
+            int i = 0;
+            while (i < after.size()) {
+                if (before.get(i) == after.get(i)) {
+                    i++;
+                    continue;
+                }
+                int start = i;
+                while (i < after.size() && before.get(i) != after.get(i)) {
+                    i++;
+                }
+                entries.add(JsonAdaptedJournalEntry.of(start, i - start, after.subList(start, i)));
+                changedCount += 2 * (i - start);
+            }
+            return changedCount;
+        }
+
+        int prefix = 0;
+        int maxCommon = Math.min(before.size(), after.size());
+        while (prefix < maxCommon && before.get(prefix) == after.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < maxCommon - prefix
+                && before.get(before.size() - 1 - suffix) == after.get(after.size() - 1 - suffix)) {
+            suffix++;
+        }
+
+        int removedCount = before.size() - prefix - suffix;
+        List<Person> added = after.subList(prefix, after.size() - suffix);
+        entries.add(JsonAdaptedJournalEntry.of(prefix, removedCount, added));
+        return removedCount + added.size();
+    }
+
+}
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,8 +30,8 @@ class JsonAdaptedDayList {
      * Converts a given {@code DayList} into this class for Jackson use.
      */
     public JsonAdaptedDayList(DayList source) {
-        this.visitDates = source.getVisitDates().stream()
-                .map(LocalDate::toString)
+        this.visitDates = Arrays.stream(source.toEpochDays())
+                .mapToObj(epochDay -> LocalDate.ofEpochDay(epochDay).toString())
                 .collect(Collectors.toList());
     }
 
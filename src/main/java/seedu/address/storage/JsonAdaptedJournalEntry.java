@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly record of one change to the person list, as stored in the address book journal.
+ * A change removes {@code removed} persons starting at position {@code from}, then inserts {@code added} there.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry does not fit the person list: %s";
+
+    private final int from;
+    private final int removed;
+    private final List<JsonAdaptedPerson> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("from") int from, @JsonProperty("removed") int removed,
+                                   @JsonProperty("added") List<JsonAdaptedPerson> added) {
+        this.from = from;
+        this.removed = removed;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts a change of the person list into this class for Jackson use.
+     */
+    public static JsonAdaptedJournalEntry of(int from, int removed, List<Person> added) {
+        return new JsonAdaptedJournalEntry(from, removed,
+                added.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Applies this change to {@code persons}.
+     *
+     * @throws IllegalValueException if the change does not fit {@code persons}, or an added person is invalid.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (from < 0 || removed < 0 || from + removed > persons.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY,
+                    "from " + from + ", removed " + removed + ", list size " + persons.size()));
+        }
+
+        List<Person> addedPersons = new ArrayList<>();
+        for (JsonAdaptedPerson person : added) {
+            addedPersons.add(person.toModelType());
+        }
+
+        persons.subList(from, from + removed).clear();
+        persons.addAll(from, addedPersons);
+    }
+
+}
@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly first line of the address book journal.
+ * Identifies the snapshot file the journal entries were recorded against by its size and checksum, so that a journal
+ * left behind by a crash during compaction, or by a snapshot replaced from outside, is not replayed on top of a
+ * different snapshot.
+ */
+class JsonAdaptedJournalHeader {
+
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+
+    private final long snapshotSize;
+    private final long snapshotChecksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalHeader} with the given snapshot details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalHeader(@JsonProperty("snapshotSize") long snapshotSize,
+                                    @JsonProperty("snapshotChecksum") long snapshotChecksum) {
+        this.snapshotSize = snapshotSize;
+        this.snapshotChecksum = snapshotChecksum;
+    }
+
+    /**
+     * Returns a header for the snapshot file at {@code snapshotPath}.
+     */
+    public static JsonAdaptedJournalHeader of(Path snapshotPath) throws IOException {
+        return new JsonAdaptedJournalHeader(Files.size(snapshotPath), checksumOf(snapshotPath));
+    }
+
+    /**
+     * Returns true if this header was written for the snapshot file at {@code snapshotPath} as it is now.
+     * The file is only read for its checksum if its size matches.
+     */
+    public boolean matches(Path snapshotPath) throws IOException {
+        return snapshotSize == Files.size(snapshotPath) && snapshotChecksum == checksumOf(snapshotPath);
+    }
+
+    private static long checksumOf(Path file) throws IOException {
+        CRC32C checksum = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocate(CHECKSUM_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                checksum.update(buffer);
+                buffer.clear();
+            }
+        }
+        return checksum.getValue();
+    }
+
+}
@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.UnaryOperator;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an address book JSON file one person at a time.
+ * Parsed {@code JsonAdaptedPerson}s are handed to a {@link ParallelPersonConverter} in batches while parsing
+ * continues, so the whole {@link JsonSerializableAddressBook} graph is never held in memory at once.
+ */
+class JsonAddressBookReader {
+
+    private static final String PERSONS_FIELD = "persons";
+
+    private JsonAddressBookReader() {}
+
+    /**
+     * Reads the address book stored at {@code filePath}.
+     * Fields other than {@code persons} are skipped, as with {@link JsonUtil#readJsonFile(Path, Class)}.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if a person violates the model's constraints or is a duplicate.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, UnaryOperator.identity());
+    }
+
+    /**
+     * Reads the address book stored at {@code filePath}, passing each person through {@code personMapper} as it is
+     * converted.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if a person violates the model's constraints or is a duplicate.
+     */
+    static AddressBook read(Path filePath, UnaryOperator<Person> personMapper)
+            throws IOException, IllegalValueException {
+        // The parser buffers reads from the channel internally, so no extra buffering layer is needed.
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+             JsonParser parser = JsonUtil.createParser(Channels.newInputStream(channel))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book JSON object");
+            }
+
+            ParallelPersonConverter converter = new ParallelPersonConverter(personMapper);
+            try {
+                readAddressBookObject(parser, converter);
+            } catch (IOException e) {
+                // A person before the malformed part of the file is reported first, as a sequential read would.
+                converter.finish();
+                throw e;
+            }
+            return converter.finish();
+        }
+    }
+
+    /**
+     * Reads the fields of the address book object, passing each person to {@code converter}.
+     * {@code parser} must be positioned on the object's opening token.
+     */
+    private static void readAddressBookObject(JsonParser parser, ParallelPersonConverter converter)
+            throws IOException, IllegalValueException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (PERSONS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                readPersons(parser, converter);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Unexpected end of address book JSON object");
+        }
+    }
+
+    /**
+     * Passes the elements of the {@code persons} array to {@code converter}.
+     * {@code parser} must be positioned on the array's opening token.
+     */
+    private static void readPersons(JsonParser parser, ParallelPersonConverter converter)
+            throws IOException, IllegalValueException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a person JSON object");
+            }
+            converter.add(JsonUtil.readValue(parser, JsonAdaptedPerson.class));
+        }
+    }
+}
@@ -3,16 +3,19 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.AtomicFileWriter;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -23,6 +26,9 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     private Path filePath;
 
+    /** Reused across saves so that its buffer is allocated only once. */
+    private final AtomicFileWriter fileWriter = new AtomicFileWriter();
+
     public JsonAddressBookStorage(Path filePath) {
         this.filePath = filePath;
     }
@@ -38,21 +44,40 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is streamed through {@link JsonAddressBookReader}, so persons are converted as they are read.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readAddressBook(filePath, UnaryOperator.identity());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}.
+     * Each person is passed through {@code personMapper} as soon as it is read.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, UnaryOperator<Person> personMapper)
+            throws DataLoadingException {
         requireNonNull(filePath);
+        requireNonNull(personMapper);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            if (BinaryAddressBookFormat.isBinaryFile(filePath)) {
+                // Written while the binary format was selected; it is converted back to JSON on the next save.
+                logger.info("Data file " + filePath + " is in the binary format, reading it as binary");
+                return Optional.of(BinaryAddressBookFormat.read(filePath, personMapper));
+            }
+            return Optional.of(JsonAddressBookReader.read(filePath, personMapper));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,6 +91,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced atomically, so a failed or interrupted save leaves the previous data intact.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +99,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonSerializableAddressBook serializableAddressBook = new JsonSerializableAddressBook(addressBook);
+        fileWriter.write(filePath, out -> JsonUtil.writeJson(serializableAddressBook, out));
     }
 
 }
@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.visit.DayList;
+
+/**
+ * An {@code AddressBookStorage} that keeps long visit histories out of memory.
+ * <p>
+ * When an address book is read, every visit history longer than {@link #SPILL_THRESHOLD} visits is moved into a
+ * {@link VisitHistoryFile}, and the person gets a {@code DayList} that loads it from there only when a command
+ * reads the visit dates. Histories are moved as the wrapped storage reads each person, so the histories as read are
+ * never all in memory at once. Saving is passed straight to the wrapped storage.
+ * <p>
+ * Histories are spilled to a private side file instead of being read from the data file itself, because the
+ * data file is replaced as a whole on every save and so cannot be used to look up offsets.
+ */
+public class LazyVisitHistoryStorage implements AddressBookStorage {
+
+    /** Histories up to this many visits take less memory than a handle to them, so they stay in memory. */
+    static final int SPILL_THRESHOLD = 8;
+
+    private static final Logger logger = LogsCenter.getLogger(LazyVisitHistoryStorage.class);
+
+    private final AddressBookStorage storage;
+    private final int cacheSize;
+
+    /**
+     * Creates a {@code LazyVisitHistoryStorage} over {@code storage} that keeps up to
+     * {@value VisitHistoryFile#DEFAULT_CACHE_SIZE} loaded histories in memory.
+     */
+    public LazyVisitHistoryStorage(AddressBookStorage storage) {
+        this(storage, VisitHistoryFile.DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a {@code LazyVisitHistoryStorage} over {@code storage} that keeps up to {@code cacheSize} loaded
+     * histories in memory.
+     */
+    public LazyVisitHistoryStorage(AddressBookStorage storage, int cacheSize) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.cacheSize = cacheSize;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            Spiller spiller = new Spiller(new VisitHistoryFile(cacheSize));
+            Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook(filePath, spiller);
+            logger.info("Moved " + spiller.spilledCount + " visit histories out of memory");
+            return addressBook;
+        } catch (IOException | UncheckedIOException e) {
+            logger.warning("Could not move visit histories out of memory: " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Moves the visit history of each person read into a {@link VisitHistoryFile}, unless it is short.
+     */
+    private static class Spiller implements UnaryOperator<Person> {
+        private final VisitHistoryFile visitHistoryFile;
+        private int spilledCount;
+
+        Spiller(VisitHistoryFile visitHistoryFile) {
+            this.visitHistoryFile = visitHistoryFile;
+        }
+
+        @Override
+        public Person apply(Person person) {
+            DayList dayList = person.getDayList();
+            if (dayList.getVisitCount() <= SPILL_THRESHOLD) {
+                return person;
+            }
+
+            try {
+                DayList storedDayList = visitHistoryFile.spill(dayList);
+                spilledCount++;
+                return person.withDayList(storedDayList);
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        }
+    }
+}
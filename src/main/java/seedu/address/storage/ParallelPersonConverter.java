@@ -0,0 +1,167 @@
+package seedu.address.storage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.UnaryOperator;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts {@code JsonAdaptedPerson}s into an {@code AddressBook}, spreading the conversion over a
+ * {@link ForkJoinPool}.
+ * <p>
+ * Persons are handed over in file order and converted in batches on the pool while the caller keeps reading.
+ * Converted batches are added to the address book in file order on the caller's thread, which also checks for
+ * duplicates there. Errors are therefore reported exactly as a one-by-one conversion would report them: the
+ * first person in file order that is either invalid or a duplicate.
+ * <p>
+ * Each converted person can also be passed through a mapper on the caller's thread as it is added, so that only the
+ * persons in the pending batches are held as converted.
+ */
+class ParallelPersonConverter {
+
+    static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final ForkJoinPool pool;
+    private final int batchSize;
+    private final int maxPendingBatches;
+    private final UnaryOperator<Person> personMapper;
+    private final Deque<ForkJoinTask<ConvertedBatch>> pendingBatches = new ArrayDeque<>();
+    private final AddressBook addressBook = new AddressBook();
+    private List<JsonAdaptedPerson> batch;
+
+    /**
+     * Creates a converter that uses the common pool.
+     */
+    ParallelPersonConverter() {
+        this(UnaryOperator.identity());
+    }
+
+    /**
+     * Creates a converter that uses the common pool and adds each converted person as mapped by {@code personMapper}.
+     */
+    ParallelPersonConverter(UnaryOperator<Person> personMapper) {
+        this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE, personMapper);
+    }
+
+    /**
+     * Creates a converter that converts batches of {@code batchSize} persons on {@code pool}.
+     */
+    ParallelPersonConverter(ForkJoinPool pool, int batchSize) {
+        this(pool, batchSize, UnaryOperator.identity());
+    }
+
+    /**
+     * Creates a converter that converts batches of {@code batchSize} persons on {@code pool} and adds each converted
+     * person as mapped by {@code personMapper}.
+     */
+    ParallelPersonConverter(ForkJoinPool pool, int batchSize, UnaryOperator<Person> personMapper) {
+        assert batchSize > 0;
+        this.pool = pool;
+        this.batchSize = batchSize;
+        this.personMapper = personMapper;
+        // Enough batches to keep every worker busy, without holding the whole file in memory.
+        this.maxPendingBatches = 2 * pool.getParallelism();
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    /**
+     * Returns the address book made from {@code persons}, converted in parallel.
+     *
+     * @throws IllegalValueException if a person is invalid or a duplicate.
+     */
+    static AddressBook convert(List<JsonAdaptedPerson> persons) throws IllegalValueException {
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        for (JsonAdaptedPerson person : persons) {
+            converter.add(person);
+        }
+        return converter.finish();
+    }
+
+    /**
+     * Queues {@code person}, the next person in file order, for conversion.
+     *
+     * @throws IllegalValueException if an earlier person turned out to be invalid or a duplicate.
+     */
+    void add(JsonAdaptedPerson person) throws IllegalValueException {
+        batch.add(person);
+        if (batch.size() < batchSize) {
+            return;
+        }
+
+        List<JsonAdaptedPerson> fullBatch = batch;
+        batch = new ArrayList<>(batchSize);
+        pendingBatches.addLast(pool.submit(() -> ConvertedBatch.of(fullBatch)));
+        while (pendingBatches.size() > maxPendingBatches) {
+            addToAddressBook(pendingBatches.removeFirst().join());
+        }
+    }
+
+    /**
+     * Waits for all queued persons to be converted and returns the address book containing them.
+     * The last, partial batch is converted on the calling thread while the pool finishes the others.
+     *
+     * @throws IllegalValueException if a person is invalid or a duplicate.
+     */
+    AddressBook finish() throws IllegalValueException {
+        ConvertedBatch lastBatch = ConvertedBatch.of(batch);
+        batch = new ArrayList<>(batchSize);
+        while (!pendingBatches.isEmpty()) {
+            addToAddressBook(pendingBatches.removeFirst().join());
+        }
+        addToAddressBook(lastBatch);
+        return addressBook;
+    }
+
+    private void addToAddressBook(ConvertedBatch convertedBatch) throws IllegalValueException {
+        try {
+            for (Person person : convertedBatch.persons) {
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(personMapper.apply(person));
+            }
+            if (convertedBatch.error instanceof IllegalValueException) {
+                throw (IllegalValueException) convertedBatch.error;
+            } else if (convertedBatch.error != null) {
+                throw (RuntimeException) convertedBatch.error;
+            }
+        } catch (IllegalValueException | RuntimeException e) {
+            pendingBatches.forEach(task -> task.cancel(false));
+            pendingBatches.clear();
+            throw e;
+        }
+    }
+
+    /**
+     * The persons converted from one batch, up to the first one that failed, and what it failed with.
+     * A failure is kept rather than thrown so that it is reported only after the persons before it.
+     */
+    private static class ConvertedBatch {
+        private final List<Person> persons;
+        private final Exception error;
+
+        private ConvertedBatch(List<Person> persons, Exception error) {
+            this.persons = persons;
+            this.error = error;
+        }
+
+        static ConvertedBatch of(List<JsonAdaptedPerson> batch) {
+            List<Person> persons = new ArrayList<>(batch.size());
+            for (JsonAdaptedPerson jsonAdaptedPerson : batch) {
+                try {
+                    persons.add(jsonAdaptedPerson.toModelType());
+                } catch (IllegalValueException | RuntimeException e) {
+                    return new ConvertedBatch(persons, e);
+                }
+            }
+            return new ConvertedBatch(persons, null);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,17 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Blocks until every address book save requested so far has been written to disk.
+     * Returns immediately if saves are synchronous.
+     * @throws IOException if the last of those saves could not be written.
+     */
+    void flushAddressBook() throws IOException;
+
+    /**
+     * Sets the handler that is told about address book saves that fail after {@code saveAddressBook} has returned.
+     * The handler is called on the thread that performed the write.
+     */
+    void setSaveFailureHandler(Consumer<IOException> handler);
+
 }
@@ -1,31 +1,85 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.PersonListChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * <p>
+ * In background save mode, address book saves are handed to a single writer thread. The caller only pays for
+ * taking an immutable snapshot of the person list; the write itself happens later, and bursts of saves that arrive
+ * while the writer is busy are merged so that only the latest snapshot is written. A snapshot whose write fails is
+ * retried by the writer after a delay that doubles with every consecutive failure, unless a later save or a flush
+ * writes a newer one first.
  */
 public class StorageManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 500;
+    private static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    /** Writer thread for background saves, or null if saves are synchronous. */
+    private final ScheduledExecutorService saveExecutor;
+
+    /** Latest snapshot that has not been written yet, or null if there is none. */
+    private final AtomicReference<ReadOnlyAddressBook> pendingSnapshot = new AtomicReference<>();
+
+    /** Failure of the most recent background save, or null if it succeeded. */
+    private volatile IOException lastSaveFailure;
+
+    /** Number of background saves that failed since the last one that succeeded. Used by the writer thread only. */
+    private int consecutiveFailureCount;
+    /** Whether a retry of a failed save is scheduled on the writer. Used by the writer thread only. */
+    private boolean isRetryScheduled;
+
+    private volatile Consumer<IOException> saveFailureHandler = e -> { };
+
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}
+     * that saves the address book synchronously.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * If {@code isBackgroundSave} is true, address book saves are written by a background thread.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            boolean isBackgroundSave) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveExecutor = isBackgroundSave ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -71,8 +125,143 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (saveExecutor == null) {
+            logger.fine("Attempting to write to data file: " + filePath);
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        ReadOnlyAddressBook snapshot = new AddressBookSnapshot(addressBook);
+        if (!filePath.equals(addressBookStorage.getAddressBookFilePath())) {
+            // Saves elsewhere are one-off exports; they still go through the writer so that the underlying
+            // storage is never used by two threads at once.
+            runOnWriter(() -> {
+                logger.fine("Attempting to write to data file: " + filePath);
+                addressBookStorage.saveAddressBook(snapshot, filePath);
+                return null;
+            });
+            return;
+        }
+
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            saveExecutor.execute(this::writePendingSnapshot);
+        } else {
+            logger.fine("Merged address book save into the pending write");
+        }
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (saveExecutor == null) {
+            return;
+        }
+        // Tasks run in submission order, so once this one has run every earlier save has been written. A
+        // snapshot left behind by a failed write is retried here.
+        runOnWriter(() -> {
+            writePendingSnapshot();
+            return null;
+        });
+        IOException failure = lastSaveFailure;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+    }
+
+    /**
+     * Writes the pending snapshot, if any. Runs on the writer thread only.
+     * If the write fails, the snapshot stays pending unless a newer one has arrived in the meantime, and a retry is
+     * scheduled. Later saves only replace the pending snapshot, so without the retry it would not be written until
+     * the next flush.
+     */
+    private void writePendingSnapshot() {
+        ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        try {
+            logger.fine("Attempting to write to data file: " + filePath);
+            addressBookStorage.saveAddressBook(snapshot, filePath);
+            lastSaveFailure = null;
+            consecutiveFailureCount = 0;
+        } catch (IOException e) {
+            logger.warning("Background save to " + filePath + " failed " + StringUtil.getDetails(e));
+            pendingSnapshot.compareAndSet(null, snapshot);
+            lastSaveFailure = e;
+            consecutiveFailureCount++;
+            scheduleRetry();
+            saveFailureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Schedules the pending snapshot to be written again after a delay that doubles with every consecutive failure.
+     * Runs on the writer thread only.
+     */
+    private void scheduleRetry() {
+        if (isRetryScheduled) {
+            return;
+        }
+        long delayMillis = INITIAL_RETRY_DELAY_MILLIS;
+        for (int i = 1; i < consecutiveFailureCount && delayMillis < MAX_RETRY_DELAY_MILLIS; i++) {
+            delayMillis *= 2;
+        }
+        delayMillis = Math.min(delayMillis, MAX_RETRY_DELAY_MILLIS);
+        isRetryScheduled = true;
+        saveExecutor.schedule(() -> {
+            isRetryScheduled = false;
+            writePendingSnapshot();
+        }, delayMillis, TimeUnit.MILLISECONDS);
+        logger.info("Retrying the address book save in " + delayMillis + " ms");
+    }
+
+    /**
+     * Runs {@code task} on the writer thread and waits for it to finish.
+     */
+    private void runOnWriter(Callable<Void> task) throws IOException {
+        try {
+            saveExecutor.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the address book to be saved", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * An immutable copy of an address book's person list, taken on the caller's thread so that the writer
+     * thread never reads a list that is still being modified.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final Optional<PersonListChange> latestChange;
+
+        AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(addressBook.getPersonList()));
+            latestChange = addressBook.getLatestChange();
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public Optional<PersonListChange> getLatestChange() {
+            return latestChange;
+        }
     }
 
 }
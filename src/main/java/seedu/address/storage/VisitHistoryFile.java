@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import seedu.address.model.visit.DayList;
+import seedu.address.model.visit.VisitHistoryStore;
+
+/**
+ * A {@link VisitHistoryStore} backed by a private, append-only temporary file.
+ * <p>
+ * Each history is appended as a count followed by its epoch days, and is identified by its offset in the file.
+ * Loaded histories are kept in a bounded least-recently-used cache. The file only lives as long as the app:
+ * histories are spilled to it afresh each time the address book is loaded, so it never needs to be kept
+ * consistent with the data file.
+ */
+class VisitHistoryFile implements VisitHistoryStore {
+
+    static final int DEFAULT_CACHE_SIZE = 256;
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final Map<Long, int[]> cache;
+
+    /** Histories spilled but not yet written to the file; they start at {@code fileLength}. */
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+    private long fileLength;
+
+    /**
+     * Creates an empty store in a new temporary file that keeps up to {@code cacheSize} loaded histories.
+     */
+    VisitHistoryFile(int cacheSize) throws IOException {
+        Path file = Files.createTempFile("visits", ".bin");
+        file.toFile().deleteOnExit();
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE);
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, int[]> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Appends the visit dates of {@code dayList} to the file and returns an equal DayList that loads them from
+     * this store.
+     */
+    synchronized DayList spill(DayList dayList) throws IOException {
+        int[] epochDays = dayList.toEpochDays();
+        int length = Integer.BYTES * (1 + epochDays.length);
+        if (length > writeBuffer.remaining()) {
+            flush();
+        }
+        ByteBuffer buffer = length <= writeBuffer.remaining() ? writeBuffer : ByteBuffer.allocate(length);
+
+        long offset = fileLength + writeBuffer.position();
+        buffer.putInt(epochDays.length);
+        for (int epochDay : epochDays) {
+            buffer.putInt(epochDay);
+        }
+        if (buffer != writeBuffer) {
+            buffer.flip();
+            write(buffer);
+        }
+        return DayList.stored(this, offset, dayList);
+    }
+
+    /**
+     * Writes the buffered histories to the file.
+     */
+    private void flush() throws IOException {
+        writeBuffer.flip();
+        write(writeBuffer);
+        writeBuffer.clear();
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            fileLength += channel.write(buffer, fileLength);
+        }
+    }
+
+    @Override
+    public synchronized int[] load(long offset) {
+        int[] epochDays = cache.get(offset);
+        if (epochDays == null) {
+            epochDays = read(offset);
+            cache.put(offset, epochDays);
+        }
+        return epochDays;
+    }
+
+    @Override
+    public synchronized int[] copy(long offset) {
+        return read(offset);
+    }
+
+    private int[] read(long offset) {
+        try {
+            if (offset >= fileLength) {
+                flush();
+            }
+            ByteBuffer countBuffer = readFully(offset, Integer.BYTES);
+            int count = countBuffer.getInt();
+            ByteBuffer datesBuffer = readFully(offset + Integer.BYTES, Integer.BYTES * count);
+            int[] epochDays = new int[count];
+            datesBuffer.asIntBuffer().get(epochDays);
+            return epochDays;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read visit history at offset " + offset, e);
+        }
+    }
+
+    private ByteBuffer readFully(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of visit history file");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+}
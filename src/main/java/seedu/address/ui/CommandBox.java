@@ -19,7 +19,10 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.LogCommand;
 import seedu.address.logic.commands.MedCommand;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.RecallCommand;
 import seedu.address.logic.commands.ViewCommand;
+import seedu.address.logic.commands.VisitedCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -114,10 +117,13 @@ public class CommandBox extends UiPart<Region> {
                 {FindMedicineCommand.COMMAND_WORD, FindMedicineCommand.MESSAGE_USAGE},
                 {FindDoctorCommand.COMMAND_WORD, FindDoctorCommand.MESSAGE_USAGE},
                 {FindCommand.COMMAND_WORD, FindCommand.MESSAGE_USAGE},
+                {QueryCommand.COMMAND_WORD, QueryCommand.MESSAGE_USAGE},
                 {ViewCommand.COMMAND_WORD, ViewCommand.MESSAGE_USAGE},
                 {MedCommand.COMMAND_WORD, MedCommand.MESSAGE_USAGE},
                 {LogCommand.COMMAND_WORD, LogCommand.MESSAGE_USAGE},
                 {DisplayCommand.COMMAND_WORD, DisplayCommand.MESSAGE_USAGE},
+                {VisitedCommand.COMMAND_WORD, VisitedCommand.MESSAGE_USAGE},
+                {RecallCommand.COMMAND_WORD, RecallCommand.MESSAGE_USAGE},
                 {HelpCommand.COMMAND_WORD, HelpCommand.MESSAGE_USAGE},
                 {ListCommand.COMMAND_WORD, ListCommand.MESSAGE_USAGE},
                 {ClearCommand.COMMAND_WORD, ClearCommand.MESSAGE_USAGE},
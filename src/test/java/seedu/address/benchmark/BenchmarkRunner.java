@@ -0,0 +1,52 @@
+package seedu.address.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.IntSupplier;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Runs simple wall-clock microbenchmarks and prints their results.
+ * Each benchmark is warmed up before it is measured, and the median of the measured runs is reported, together
+ * with the number of bytes the benchmark allocated per operation.
+ */
+public class BenchmarkRunner {
+
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+    private static final ThreadMXBean THREAD_BEAN = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /** Sink for benchmark results, so the JIT cannot discard the work being measured. */
+    private static int blackhole;
+
+    private BenchmarkRunner() {}
+
+    /**
+     * Measures {@code body}, which performs {@code operations} operations per run, and prints the median time per
+     * operation, throughput and bytes allocated per operation. {@code body} returns a value derived from its work.
+     */
+    public static void measure(String label, int operations, IntSupplier body) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            blackhole += body.getAsInt();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long[] runTimes = new long[MEASURED_RUNS];
+        long[] runAllocations = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long allocatedBefore = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            blackhole += body.getAsInt();
+            runTimes[i] = System.nanoTime() - start;
+            runAllocations[i] = THREAD_BEAN.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        }
+        Arrays.sort(runTimes);
+        Arrays.sort(runAllocations);
+        long median = runTimes[MEASURED_RUNS / 2];
+        long medianAllocation = runAllocations[MEASURED_RUNS / 2];
+
+        System.out.printf("%-50s %12.1f ns/op %14.0f ops/s %12.1f B/op%n", label, (double) median / operations,
+                operations * 1e9 / median, (double) medianAllocation / operations);
+    }
+}
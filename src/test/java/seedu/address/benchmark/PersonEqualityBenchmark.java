@@ -0,0 +1,64 @@
+package seedu.address.benchmark;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Measures {@code Person.hashCode} and {@code Person.equals}, and removing persons from a {@code UniquePersonList}
+ * of 100,000 patients, which compares the person to remove with the one in the list.
+ * Run with {@code gradlew benchmark -PbenchmarkClass=seedu.address.benchmark.PersonEqualityBenchmark}.
+ */
+public class PersonEqualityBenchmark {
+
+    private static final int PATIENT_COUNT = 100_000;
+    /** Removals per run; all runs together must remove fewer than {@code PATIENT_COUNT} persons. */
+    private static final int REMOVAL_COUNT = 10_000;
+
+    /**
+     * Runs the benchmarks.
+     */
+    public static void main(String[] args) {
+        List<Person> persons = UniquePersonListBenchmark.createPersons(PATIENT_COUNT);
+        List<Person> copies = UniquePersonListBenchmark.createPersons(PATIENT_COUNT);
+
+        BenchmarkRunner.measure("Person.hashCode (" + PATIENT_COUNT + " patients)", PATIENT_COUNT, () -> {
+            int hash = 0;
+            for (Person person : persons) {
+                hash += person.hashCode();
+            }
+            return hash;
+        });
+
+        BenchmarkRunner.measure("Person.equals, different persons", PATIENT_COUNT, () -> {
+            int equal = 0;
+            for (int i = 0; i < PATIENT_COUNT; i++) {
+                equal += persons.get(i).equals(copies.get((i + 1) % PATIENT_COUNT)) ? 1 : 0;
+            }
+            return equal;
+        });
+
+        Set<Person> personSet = new HashSet<>(persons);
+        BenchmarkRunner.measure("HashSet<Person>.contains, equal copies", PATIENT_COUNT, () -> {
+            int found = 0;
+            for (Person copy : copies) {
+                found += personSet.contains(copy) ? 1 : 0;
+            }
+            return found;
+        });
+
+        // Each run removes the next persons from the end of the list, so the list is only filled once.
+        UniquePersonList list = new UniquePersonList();
+        persons.forEach(list::add);
+        int[] nextRemoval = {PATIENT_COUNT - 1};
+        BenchmarkRunner.measure("UniquePersonList.remove, equal copies", REMOVAL_COUNT, () -> {
+            for (int i = 0; i < REMOVAL_COUNT; i++) {
+                list.remove(copies.get(nextRemoval[0]--));
+            }
+            return list.asUnmodifiableObservableList().size();
+        });
+    }
+}
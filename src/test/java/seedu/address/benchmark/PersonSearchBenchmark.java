@@ -0,0 +1,68 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.DoctorNameContainsKeywordsPredicate;
+import seedu.address.model.person.MedicineContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.query.Query;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures filtering the person list of a model with 100,000 patients by name, doctor and medicine, and by a query
+ * combining them.
+ * Run with {@code gradlew benchmark -PbenchmarkClass=PersonSearchBenchmark}.
+ */
+public class PersonSearchBenchmark {
+
+    private static final int PATIENT_COUNT = 100_000;
+
+    /**
+     * Runs the benchmarks.
+     */
+    public static void main(String[] args) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(createPatients(PATIENT_COUNT));
+        ModelManager model = new ModelManager(addressBook, new UserPrefs());
+
+        measureSearch(model, "find 54321", new NameContainsKeywordsPredicate(List.of("54321")));
+        measureSearch(model, "finddoc Lim137", new DoctorNameContainsKeywordsPredicate(List.of("Lim137")));
+        measureSearch(model, "findmed med/cetamol", new MedicineContainsKeywordsPredicate(List.of("cetamol")));
+
+        // (dr/Lim100 or dr/Lim137) med/cetamol not t/inactive, planned against the indexes and as a plain scan
+        Query query = Query.and(List.of(
+                Query.or(List.of(Query.of(new DoctorNameContainsKeywordsPredicate(List.of("Lim100"))),
+                        Query.of(new DoctorNameContainsKeywordsPredicate(List.of("Lim137"))))),
+                Query.of(new MedicineContainsKeywordsPredicate(List.of("cetamol"))),
+                Query.not(Query.of(new TagContainsKeywordsPredicate(List.of("inactive"))))));
+        measureSearch(model, "query, planned", query);
+        measureSearch(model, "query, scanned", query::test);
+    }
+
+    private static void measureSearch(ModelManager model, String label, Predicate<Person> predicate) {
+        BenchmarkRunner.measure(label + " (" + PATIENT_COUNT + " patients)", 1, () -> {
+            model.updateFilteredPersonList(predicate);
+            return model.getFilteredPersonList().size();
+        });
+    }
+
+    /**
+     * Returns {@code count} distinct patients, spread over 500 doctors and 50 medicines.
+     */
+    static List<Person> createPatients(int count) {
+        List<Person> patients = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            patients.add(new PersonBuilder().withName("Patient " + i).withPhone(String.format("9%07d", i))
+                    .withDoctor("Dr Lim" + (i % 500))
+                    .withMedicines(i % 50 == 0 ? "Paracetamol" : "Medicine " + (i % 50)).build());
+        }
+        return patients;
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures adding persons to, and identity lookups in, a {@code UniquePersonList} of 100,000 patients.
+ * Run with {@code gradlew benchmark}.
+ */
+public class UniquePersonListBenchmark {
+
+    private static final int PATIENT_COUNT = 100_000;
+
+    /**
+     * Runs the benchmarks.
+     */
+    public static void main(String[] args) {
+        List<Person> persons = createPersons(PATIENT_COUNT);
+
+        BenchmarkRunner.measure("UniquePersonList.add (" + PATIENT_COUNT + " patients)", PATIENT_COUNT, () -> {
+            UniquePersonList list = new UniquePersonList();
+            for (Person person : persons) {
+                list.add(person);
+            }
+            return list.asUnmodifiableObservableList().size();
+        });
+
+        UniquePersonList list = new UniquePersonList();
+        persons.forEach(list::add);
+        List<Person> lookups = createPersons(PATIENT_COUNT);
+        BenchmarkRunner.measure("UniquePersonList.contains (" + PATIENT_COUNT + " patients)", PATIENT_COUNT, () -> {
+            int found = 0;
+            for (Person person : lookups) {
+                found += list.contains(person) ? 1 : 0;
+            }
+            return found;
+        });
+    }
+
+    /**
+     * Returns {@code count} distinct persons.
+     */
+    static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Patient " + i).withPhone(String.format("9%07d", i))
+                    .withTags("tag" + (i % 20)).withMedicines("Medicine " + (i % 50)).build());
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.DoctorNameContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures testing every patient of a 100,000 patient book against the {@code find} and {@code finddoc} predicates,
+ * as a filter without indexes does. The same scans using the previous regex-splitting word match are measured for
+ * comparison.
+ * Run with {@code gradlew benchmark -PbenchmarkClass=WordMatchBenchmark}.
+ */
+public class WordMatchBenchmark {
+
+    private static final int PATIENT_COUNT = 100_000;
+    private static final List<String> NAME_KEYWORDS = List.of("54321", "Alex");
+    private static final List<String> DOCTOR_KEYWORDS = List.of("Lim137");
+
+    /**
+     * Runs the benchmarks.
+     */
+    public static void main(String[] args) {
+        List<Person> patients = PersonSearchBenchmark.createPatients(PATIENT_COUNT);
+
+        measureScan(patients, "find, cached words", new NameContainsKeywordsPredicate(NAME_KEYWORDS));
+        measureScan(patients, "find, regex split", person -> NAME_KEYWORDS.stream()
+                .anyMatch(keyword -> regexContainsWordIgnoreCase(person.getName().fullName, keyword)));
+        measureScan(patients, "finddoc, cached words", new DoctorNameContainsKeywordsPredicate(DOCTOR_KEYWORDS));
+        measureScan(patients, "finddoc, regex split", person -> DOCTOR_KEYWORDS.stream()
+                .anyMatch(keyword -> regexContainsWordIgnoreCase(person.getDoctor().name, keyword)));
+    }
+
+    private static void measureScan(List<Person> patients, String label, Predicate<Person> predicate) {
+        BenchmarkRunner.measure(label + " (per patient)", patients.size(), () -> {
+            int matches = 0;
+            for (Person patient : patients) {
+                matches += predicate.test(patient) ? 1 : 0;
+            }
+            return matches;
+        });
+    }
+
+    /**
+     * The word match previously used by {@code StringUtil#containsWordIgnoreCase}.
+     */
+    private static boolean regexContainsWordIgnoreCase(String sentence, String word) {
+        String preppedWord = word.trim();
+        if (preppedWord.isEmpty() || preppedWord.split("\\s+").length != 1) {
+            throw new IllegalArgumentException();
+        }
+        return Arrays.stream(sentence.split("\\s+")).anyMatch(preppedWord::equalsIgnoreCase);
+    }
+}
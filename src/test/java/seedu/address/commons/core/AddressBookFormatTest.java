@@ -0,0 +1,29 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+public class AddressBookFormatTest {
+
+    @Test
+    public void toDataFilePath() {
+        assertEquals(Paths.get("data", "addressbook.json"),
+                AddressBookFormat.JSON.toDataFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                AddressBookFormat.BINARY.toDataFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                AddressBookFormat.BINARY.toDataFilePath(Paths.get("data", "addressbook")));
+    }
+
+    @Test
+    public void hasFileExtension() {
+        assertTrue(AddressBookFormat.JSON.hasFileExtension(Paths.get("data", "addressbook.json")));
+        assertFalse(AddressBookFormat.JSON.hasFileExtension(Paths.get("data", "addressbook.bin")));
+        assertTrue(AddressBookFormat.BINARY.hasFileExtension(Paths.get("addressbook.bin")));
+    }
+}
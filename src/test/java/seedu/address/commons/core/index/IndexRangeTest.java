@@ -0,0 +1,41 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexRangeTest {
+
+    @Test
+    public void constructor_startAfterEnd_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, IndexRange.MESSAGE_CONSTRAINTS, () ->
+                new IndexRange(Index.fromOneBased(3), Index.fromOneBased(2)));
+    }
+
+    @Test
+    public void isWithin() {
+        IndexRange range = new IndexRange(Index.fromOneBased(2), Index.fromOneBased(4));
+
+        assertTrue(range.isWithin(4));
+        assertTrue(range.isWithin(10));
+        assertFalse(range.isWithin(3));
+        assertTrue(IndexRange.of(Index.fromOneBased(1)).isWithin(1));
+        assertFalse(IndexRange.of(Index.fromOneBased(1)).isWithin(0));
+    }
+
+    @Test
+    public void equals() {
+        IndexRange range = new IndexRange(Index.fromOneBased(2), Index.fromOneBased(4));
+
+        assertTrue(range.equals(new IndexRange(Index.fromZeroBased(1), Index.fromZeroBased(3))));
+        assertEquals(range.hashCode(), new IndexRange(Index.fromZeroBased(1), Index.fromZeroBased(3)).hashCode());
+        assertTrue(IndexRange.of(Index.fromOneBased(5)).equals(
+                new IndexRange(Index.fromOneBased(5), Index.fromOneBased(5))));
+        assertFalse(range.equals(new IndexRange(Index.fromOneBased(2), Index.fromOneBased(5))));
+        assertFalse(range.equals(Index.fromOneBased(2)));
+        assertFalse(range.equals(null));
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AtomicFileWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final AtomicFileWriter writer = new AtomicFileWriter();
+
+    @Test
+    public void write_missingFileAndParent_createsFile() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("file.txt");
+        writer.write(file, out -> out.write("content".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertEquals(1, countFiles(file.getParent()));
+    }
+
+    @Test
+    public void write_existingFile_replacesContent() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old content that is longer than the new one");
+        writer.write(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("new", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void write_existingFile_keepsPermissions() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+        assumeTrue(file.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(file, permissions);
+
+        writer.write(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void write_newFile_notRestrictedToOwner() throws Exception {
+        assumeTrue(testFolder.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        Path file = testFolder.resolve("file.txt");
+        Path plainFile = Files.createFile(testFolder.resolve("plain.txt"));
+
+        writer.write(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(Files.getPosixFilePermissions(plainFile), Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void write_contentLargerThanBuffer_writesAllBytes() throws Exception {
+        Path file = testFolder.resolve("large.bin");
+        byte[] content = new byte[300_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+
+        // written in two parts, one of them byte by byte, through the same buffer across two saves
+        for (int save = 0; save < 2; save++) {
+            writer.write(file, out -> {
+                out.write(content, 0, 1000);
+                for (int i = 1000; i < 2000; i++) {
+                    out.write(content[i]);
+                }
+                out.write(content, 2000, content.length - 2000);
+            });
+            assertArrayEquals(content, Files.readAllBytes(file));
+        }
+    }
+
+    @Test
+    public void write_contentWriterFails_originalFileUntouched() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "original");
+
+        assertThrows(IOException.class, () -> writer.write(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("failed midway");
+        }));
+
+        assertEquals("original", FileUtil.readFromFile(file));
+        assertEquals(1, countFiles(testFolder));
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
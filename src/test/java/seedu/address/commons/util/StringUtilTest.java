@@ -1,5 +1,7 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +125,47 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    @Test
+    public void containsWordIgnoreCase_otherWhitespace_treatedAsSeparator() {
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\tbBb\nccc", "BBB"));
+        assertFalse(StringUtil.containsWordIgnoreCase("aaa\u0001bbb", "bbb"));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.containsWordIgnoreCase("typical sentence", "aaa\tBBB"));
+    }
+
+    //---------------- Tests for anyWordEqualsIgnoreCase --------------------------------------
+
+    @Test
+    public void anyWordEqualsIgnoreCase_splitWords_sameResultAsContainsWordIgnoreCase() {
+        String[] sentences = {"", "    ", "aaa bbb ccc", "aaa bBb ccc@1", "  AAA   bBb   ccc  ", "Aaa", "a\tb\nc"};
+        String[] words = {"abc", "bb", "bbbb", "Bbb", "CCc@1", "aaa", "  ccc  ", "B", "c"};
+        for (String sentence : sentences) {
+            for (String word : words) {
+                assertEquals(StringUtil.containsWordIgnoreCase(sentence, word),
+                        StringUtil.anyWordEqualsIgnoreCase(StringUtil.splitWords(sentence), word));
+            }
+        }
+    }
+
+    @Test
+    public void anyWordEqualsIgnoreCase_invalidWord_throwsIllegalArgumentException() {
+        String[] words = StringUtil.splitWords("typical sentence");
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", ()
+            -> StringUtil.anyWordEqualsIgnoreCase(words, "  "));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.anyWordEqualsIgnoreCase(words, "aaa BBB"));
+    }
+
+    //---------------- Tests for splitWords --------------------------------------
+
+    @Test
+    public void splitWords() {
+        assertArrayEquals(new String[0], StringUtil.splitWords(""));
+        assertArrayEquals(new String[0], StringUtil.splitWords(" \t "));
+        assertArrayEquals(new String[] {"ABc"}, StringUtil.splitWords("ABc"));
+        assertArrayEquals(new String[] {"ABc", "def"}, StringUtil.splitWords("  ABc \n def "));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,155 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code LogCommand}.
+ */
+public class LogCommandTest {
+
+    private static final LocalDate VISIT_DATE = LocalDate.of(2020, 1, 1);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_singleIndex_logsVisit() {
+        Person personToLog = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person loggedPerson = withVisit(personToLog);
+        LogCommand logCommand = new LogCommand(List.of(IndexRange.of(INDEX_FIRST_PERSON)), VISIT_DATE);
+
+        String expectedMessage = String.format(LogCommand.MESSAGE_LOG_PERSON_SUCCESS, VISIT_DATE,
+                Messages.format(loggedPerson));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(personToLog, loggedPerson);
+
+        assertCommandSuccess(logCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_overlappingRanges_logsEachPatientOnceInOneChange() {
+        List<Person> persons = List.copyOf(model.getFilteredPersonList());
+        LogCommand logCommand = new LogCommand(List.of(new IndexRange(INDEX_SECOND_PERSON, Index.fromOneBased(4)),
+                IndexRange.of(INDEX_THIRD_PERSON), IndexRange.of(INDEX_FIRST_PERSON)), VISIT_DATE);
+
+        String expectedMessage = String.format(LogCommand.MESSAGE_LOG_PERSONS_SUCCESS, VISIT_DATE, 4);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        for (Person person : persons.subList(0, 4)) {
+            expectedModel.setPerson(person, withVisit(person));
+        }
+        long version = model.getAddressBookVersion();
+
+        assertCommandSuccess(logCommand, model, expectedMessage, expectedModel);
+        assertEquals(version + 1, model.getAddressBookVersion());
+    }
+
+    @Test
+    public void execute_allDisplayed_logsFilteredPatientsOnly() {
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+        Person personToLog = model.getFilteredPersonList().get(0);
+        LogCommand logCommand = LogCommand.forAllDisplayed(VISIT_DATE);
+
+        String expectedMessage = String.format(LogCommand.MESSAGE_LOG_PERSON_SUCCESS, VISIT_DATE,
+                Messages.format(withVisit(personToLog)));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_SECOND_PERSON);
+        expectedModel.setPerson(personToLog, withVisit(personToLog));
+
+        assertCommandSuccess(logCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_someAlreadyLogged_skipsThem() {
+        Person first = model.getFilteredPersonList().get(0);
+        Person second = model.getFilteredPersonList().get(1);
+        Person third = model.getFilteredPersonList().get(2);
+        model.setPerson(first, withVisit(first));
+        LogCommand logCommand = new LogCommand(List.of(new IndexRange(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON)),
+                VISIT_DATE);
+
+        String expectedMessage = String.format(LogCommand.MESSAGE_LOG_PERSONS_SUCCESS, VISIT_DATE, 2)
+                + String.format(LogCommand.MESSAGE_SKIPPED_ALREADY_LOGGED, 1);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setPerson(second, withVisit(second));
+        expectedModel.setPerson(third, withVisit(third));
+
+        assertCommandSuccess(logCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allAlreadyLogged_throwsCommandException() {
+        Person first = model.getFilteredPersonList().get(0);
+        model.setPerson(first, withVisit(first));
+        LogCommand logCommand = new LogCommand(List.of(IndexRange.of(INDEX_FIRST_PERSON)), VISIT_DATE);
+
+        assertCommandFailure(logCommand, model, String.format(LogCommand.MESSAGE_ALREADY_LOGGED, VISIT_DATE));
+    }
+
+    @Test
+    public void execute_indexOutOfBounds_throwsCommandExceptionAndLogsNothing() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        LogCommand logCommand = new LogCommand(List.of(IndexRange.of(INDEX_FIRST_PERSON),
+                new IndexRange(INDEX_SECOND_PERSON, outOfBoundIndex)), VISIT_DATE);
+
+        assertCommandFailure(logCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        LogCommand logFirstCommand = new LogCommand(List.of(IndexRange.of(INDEX_FIRST_PERSON)), VISIT_DATE);
+
+        // same object -> returns true
+        assertTrue(logFirstCommand.equals(logFirstCommand));
+
+        // same values -> returns true
+        assertTrue(logFirstCommand.equals(new LogCommand(List.of(IndexRange.of(INDEX_FIRST_PERSON)), VISIT_DATE)));
+
+        // different types -> returns false
+        assertFalse(logFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(logFirstCommand.equals(null));
+
+        // different targets -> returns false
+        assertFalse(logFirstCommand.equals(new LogCommand(List.of(IndexRange.of(INDEX_SECOND_PERSON)), VISIT_DATE)));
+        assertFalse(logFirstCommand.equals(LogCommand.forAllDisplayed(VISIT_DATE)));
+
+        // different date -> returns false
+        assertFalse(logFirstCommand.equals(new LogCommand(List.of(IndexRange.of(INDEX_FIRST_PERSON)),
+                VISIT_DATE.plusDays(1))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<IndexRange> targetRanges = List.of(IndexRange.of(INDEX_FIRST_PERSON));
+        LogCommand logCommand = new LogCommand(targetRanges, VISIT_DATE);
+        String expected = LogCommand.class.getCanonicalName() + "{targetRanges=" + targetRanges
+                + ", isAllDisplayed=false, visitDate=" + VISIT_DATE + "}";
+        assertEquals(expected, logCommand.toString());
+    }
+
+    private static Person withVisit(Person person) {
+        return person.withDayList(person.getDayList().addVisitDate(VISIT_DATE));
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.QueryCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.query.Query;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        Query firstQuery = Query.of(new NameContainsKeywordsPredicate(List.of("alice")));
+        Query secondQuery = Query.of(new TagContainsKeywordsPredicate(List.of("friends")));
+        QueryCommand firstCommand = new QueryCommand(firstQuery);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new QueryCommand(firstQuery)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(firstCommand.equals(new QueryCommand(secondQuery)));
+    }
+
+    @Test
+    public void execute_nameAndTag_personsMatchingBothFound() throws Exception {
+        assertQuery("n/meier t/friends", List.of(BENSON, DANIEL));
+    }
+
+    @Test
+    public void execute_orWithNot_personsFound() throws Exception {
+        assertQuery("(dr/tan or t/owesMoney) and not med/robitussin", List.of(BENSON, ELLE));
+        assertQuery("med/paracetamol not dr/mike", List.of(FIONA));
+    }
+
+    @Test
+    public void execute_notOnly_personsFound() throws Exception {
+        assertQuery("not t/friends", List.of(CARL, ELLE, FIONA, GEORGE));
+    }
+
+    @Test
+    public void execute_noMatches_noPersonFound() throws Exception {
+        assertQuery("n/alice and n/benson", List.of());
+    }
+
+    @Test
+    public void toStringMethod() {
+        Query query = Query.of(new NameContainsKeywordsPredicate(List.of("alice")));
+        QueryCommand queryCommand = new QueryCommand(query);
+        String expected = QueryCommand.class.getCanonicalName() + "{query=" + query + "}";
+        assertEquals(expected, queryCommand.toString());
+    }
+
+    private void assertQuery(String criteria, List<Person> expectedPersons) throws ParseException {
+        QueryCommand command = new QueryCommandParser().parse(criteria);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, expectedPersons.size());
+        expectedModel.updateFilteredPersonList(expectedPersons::contains);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(expectedPersons, model.getFilteredPersonList());
+    }
+}
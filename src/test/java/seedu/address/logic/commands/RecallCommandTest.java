@@ -0,0 +1,116 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.LastVisitBeforePredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RecallCommand}.
+ */
+public class RecallCommandTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2024, 1, 1);
+    private static final LocalDate JUN_1 = LocalDate.of(2024, 6, 1);
+
+    private static final Person ANNA = new PersonBuilder().withName("Anna Tan")
+            .withVisitDates("2023-05-01", "2023-12-31").build();
+    private static final Person BRYAN = new PersonBuilder().withName("Bryan Lim")
+            .withVisitDates("2024-03-15").build();
+    private static final Person CHLOE = new PersonBuilder().withName("Chloe Ng")
+            .withVisitDates("2022-08-20").build();
+    private static final Person DEV = new PersonBuilder().withName("Dev Kumar")
+            .withVisitDates().build();
+
+    private Model model = new ModelManager(getRecallAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getRecallAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        RecallCommand firstCommand = new RecallCommand(new LastVisitBeforePredicate(JAN_1));
+        RecallCommand secondCommand = new RecallCommand(new LastVisitBeforePredicate(JUN_1));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new RecallCommand(new LastVisitBeforePredicate(JAN_1))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different date -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_date_leastRecentlySeenFirst() {
+        assertRecalled(JAN_1, List.of(DEV, CHLOE, ANNA));
+        assertRecalled(JUN_1, List.of(DEV, CHLOE, ANNA, BRYAN));
+    }
+
+    @Test
+    public void execute_dateBeforeAllVisits_onlyPersonsNeverSeenFound() {
+        assertRecalled(LocalDate.of(2020, 1, 1), List.of(DEV));
+    }
+
+    @Test
+    public void execute_visitLoggedAfterRecall_personNoLongerShown() {
+        model.updateFilteredPersonList(new LastVisitBeforePredicate(JAN_1),
+                LastVisitBeforePredicate.LEAST_RECENTLY_SEEN_FIRST);
+
+        model.setPerson(CHLOE, CHLOE.withDayList(CHLOE.getDayList().addVisitDate(JUN_1)));
+
+        assertEquals(List.of(DEV, ANNA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_listAfterRecall_addressBookOrderRestored() {
+        new RecallCommand(new LastVisitBeforePredicate(JUN_1)).execute(model);
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+
+        assertEquals(List.of(ANNA, BRYAN, CHLOE, DEV), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        LastVisitBeforePredicate predicate = new LastVisitBeforePredicate(JAN_1);
+        RecallCommand recallCommand = new RecallCommand(predicate);
+        String expected = RecallCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, recallCommand.toString());
+    }
+
+    private void assertRecalled(LocalDate date, List<Person> expectedPersons) {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, expectedPersons.size());
+        LastVisitBeforePredicate predicate = new LastVisitBeforePredicate(date);
+        expectedModel.updateFilteredPersonList(predicate, LastVisitBeforePredicate.LEAST_RECENTLY_SEEN_FIRST);
+        assertCommandSuccess(new RecallCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(expectedPersons, model.getFilteredPersonList());
+    }
+
+    private static AddressBook getRecallAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ANNA);
+        addressBook.addPerson(BRYAN);
+        addressBook.addPerson(CHLOE);
+        addressBook.addPerson(DEV);
+        return addressBook;
+    }
+}
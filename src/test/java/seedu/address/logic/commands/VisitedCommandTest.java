@@ -0,0 +1,111 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.VisitDateInRangePredicate;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code VisitedCommand}.
+ */
+public class VisitedCommandTest {
+
+    private static final LocalDate OCT_1 = LocalDate.of(2024, 10, 1);
+    private static final LocalDate OCT_3 = LocalDate.of(2024, 10, 3);
+    private static final LocalDate OCT_7 = LocalDate.of(2024, 10, 7);
+
+    private static final Person ANNA = new PersonBuilder().withName("Anna Tan")
+            .withVisitDates("2024-09-30", "2024-10-01").build();
+    private static final Person BRYAN = new PersonBuilder().withName("Bryan Lim")
+            .withVisitDates("2024-10-03").build();
+    private static final Person CHLOE = new PersonBuilder().withName("Chloe Ng")
+            .withVisitDates("2024-09-01", "2024-10-08").build();
+
+    private Model model = new ModelManager(getVisitAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getVisitAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        VisitedCommand firstCommand = new VisitedCommand(new VisitDateInRangePredicate(OCT_1, OCT_1));
+        VisitedCommand secondCommand = new VisitedCommand(new VisitDateInRangePredicate(OCT_1, OCT_7));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new VisitedCommand(new VisitDateInRangePredicate(OCT_1, OCT_1))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_singleDate_personsVisitedThatDayFound() {
+        assertVisited(OCT_1, OCT_1, List.of(ANNA));
+    }
+
+    @Test
+    public void execute_dateRange_personsVisitedInRangeFound() {
+        assertVisited(OCT_1, OCT_7, List.of(ANNA, BRYAN));
+    }
+
+    @Test
+    public void execute_noVisitsInRange_noPersonFound() {
+        assertVisited(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31), Collections.emptyList());
+    }
+
+    @Test
+    public void execute_visitLoggedAfterFiltering_personShown() {
+        model.updateFilteredPersonList(new VisitDateInRangePredicate(OCT_3, OCT_3));
+        Person chloeVisitedOct3 = CHLOE.withDayList(CHLOE.getDayList().addVisitDate(OCT_3));
+
+        model.setPerson(CHLOE, chloeVisitedOct3);
+
+        assertEquals(List.of(BRYAN, chloeVisitedOct3), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        VisitDateInRangePredicate predicate = new VisitDateInRangePredicate(OCT_1, OCT_7);
+        VisitedCommand visitedCommand = new VisitedCommand(predicate);
+        String expected = VisitedCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, visitedCommand.toString());
+    }
+
+    private void assertVisited(LocalDate from, LocalDate to, List<Person> expectedPersons) {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, expectedPersons.size());
+        VisitDateInRangePredicate predicate = new VisitDateInRangePredicate(from, to);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(new VisitedCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(expectedPersons, model.getFilteredPersonList());
+    }
+
+    private static AddressBook getVisitAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ANNA);
+        addressBook.addPerson(BRYAN);
+        addressBook.addPerson(CHLOE);
+        return addressBook;
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.LogCommand;
+
+public class LogCommandParserTest {
+
+    private static final LocalDate OCT_1 = LocalDate.of(2024, 10, 1);
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, LogCommand.MESSAGE_USAGE);
+
+    private LogCommandParser parser = new LogCommandParser();
+
+    @Test
+    public void parse_singleIndex_logsToday() {
+        assertParseSuccess(parser, "1",
+                new LogCommand(List.of(IndexRange.of(INDEX_FIRST_PERSON)), LocalDate.now()));
+    }
+
+    @Test
+    public void parse_indexesRangesAndDate_returnsLogCommand() {
+        LogCommand expectedCommand = new LogCommand(List.of(IndexRange.of(INDEX_FIRST_PERSON),
+                new IndexRange(INDEX_THIRD_PERSON, Index.fromOneBased(5)), IndexRange.of(INDEX_SECOND_PERSON)),
+                OCT_1);
+        assertParseSuccess(parser, " 1   3-5 2 v/2024-10-01", expectedCommand);
+    }
+
+    @Test
+    public void parse_all_returnsLogCommand() {
+        assertParseSuccess(parser, " all", LogCommand.forAllDisplayed(LocalDate.now()));
+        assertParseSuccess(parser, " ALL v/2024-10-01", LogCommand.forAllDisplayed(OCT_1));
+    }
+
+    @Test
+    public void parse_invalidTargets_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " v/2024-10-01", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "a", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1-", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1-2-3", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1 all", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_rangeStartAfterEnd_throwsParseException() {
+        assertParseFailure(parser, "5-3", IndexRange.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_invalidDate_throwsParseException() {
+        assertParseFailure(parser, "1 v/2024-02-30", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, "1 v/" + LocalDate.now().plusDays(1), LogCommandParser.MESSAGE_FUTURE_DATE);
+        assertParseFailure(parser, "1 v/2024-10-01 v/2024-10-02",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_VISIT));
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.model.person.DoctorNameContainsKeywordsPredicate;
+import seedu.address.model.person.MedicineContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.VisitDateInRangePredicate;
+import seedu.address.model.query.Query;
+
+public class QueryCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+
+    private static final Query NAME_ALEX = Query.of(new NameContainsKeywordsPredicate(List.of("alex")));
+    private static final Query DOCTOR_LIM = Query.of(new DoctorNameContainsKeywordsPredicate(List.of("lim")));
+    private static final Query MEDICINE_INSULIN =
+            Query.of(new MedicineContainsKeywordsPredicate(List.of("insulin")));
+    private static final Query TAG_INACTIVE = Query.of(new TagContainsKeywordsPredicate(List.of("inactive")));
+
+    private QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_singleCriterion_returnsQueryCommand() {
+        assertParseSuccess(parser, " n/alex ", new QueryCommand(NAME_ALEX));
+        assertParseSuccess(parser, "v/2024-10-01", new QueryCommand(Query.of(
+                new VisitDateInRangePredicate(LocalDate.of(2024, 10, 1), LocalDate.of(2024, 10, 1)))));
+        assertParseSuccess(parser, "v/2024-10-01..2024-10-07", new QueryCommand(Query.of(
+                new VisitDateInRangePredicate(LocalDate.of(2024, 10, 1), LocalDate.of(2024, 10, 7)))));
+    }
+
+    @Test
+    public void parse_adjacentCriteria_joinedWithAnd() {
+        QueryCommand expectedCommand = new QueryCommand(Query.and(List.of(NAME_ALEX, DOCTOR_LIM)));
+        assertParseSuccess(parser, "n/alex dr/lim", expectedCommand);
+        assertParseSuccess(parser, "n/alex AND dr/lim", expectedCommand);
+    }
+
+    @Test
+    public void parse_operators_notThenAndThenOr() {
+        QueryCommand expectedCommand = new QueryCommand(Query.or(List.of(NAME_ALEX,
+                Query.and(List.of(DOCTOR_LIM, Query.not(TAG_INACTIVE))))));
+        assertParseSuccess(parser, "n/alex or dr/lim and not t/inactive", expectedCommand);
+    }
+
+    @Test
+    public void parse_brackets_groupCriteria() {
+        QueryCommand expectedCommand = new QueryCommand(Query.and(List.of(
+                Query.or(List.of(NAME_ALEX, DOCTOR_LIM)), MEDICINE_INSULIN)));
+        assertParseSuccess(parser, "(n/alex or dr/lim) med/insulin", expectedCommand);
+        assertParseSuccess(parser, "( n/alex or (dr/lim) )and med/insulin", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidStructure_throwsParseException() {
+        assertParseFailure(parser, "   ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "(n/alex or dr/lim", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "n/alex)", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "n/alex or", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "not", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "()", String.format(QueryCommandParser.MESSAGE_UNKNOWN_CRITERION, ")"));
+    }
+
+    @Test
+    public void parse_invalidCriterion_throwsParseException() {
+        assertParseFailure(parser, "x/alex", String.format(QueryCommandParser.MESSAGE_UNKNOWN_CRITERION, "x/alex"));
+        assertParseFailure(parser, "n/", String.format(QueryCommandParser.MESSAGE_UNKNOWN_CRITERION, "n/"));
+        assertParseFailure(parser, "alex", String.format(QueryCommandParser.MESSAGE_UNKNOWN_CRITERION, "alex"));
+        assertParseFailure(parser, "v/yesterday", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, "v/2024-10-07..2024-10-01", VisitedCommandParser.MESSAGE_START_AFTER_END);
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RecallCommand;
+import seedu.address.model.person.LastVisitBeforePredicate;
+
+public class RecallCommandParserTest {
+
+    private RecallCommandParser parser = new RecallCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RecallCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_moreThanOneArg_throwsParseException() {
+        assertParseFailure(parser, "2024-01-01 30",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RecallCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_date_returnsRecallCommand() {
+        RecallCommand expectedCommand =
+                new RecallCommand(new LastVisitBeforePredicate(LocalDate.of(2024, 1, 1)));
+        assertParseSuccess(parser, " 2024-01-01 ", expectedCommand);
+    }
+
+    @Test
+    public void parse_days_returnsRecallCommand() {
+        RecallCommand expectedCommand =
+                new RecallCommand(new LastVisitBeforePredicate(LocalDate.now().minusDays(90)));
+        assertParseSuccess(parser, "90", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidArg_throwsParseException() {
+        assertParseFailure(parser, "0", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, "-5", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, "2024-13-01", ParserUtil.MESSAGE_INVALID_DATE);
+    }
+}
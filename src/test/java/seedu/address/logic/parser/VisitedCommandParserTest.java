@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.VisitedCommand;
+import seedu.address.model.person.VisitDateInRangePredicate;
+
+public class VisitedCommandParserTest {
+
+    private static final LocalDate OCT_1 = LocalDate.of(2024, 10, 1);
+    private static final LocalDate OCT_7 = LocalDate.of(2024, 10, 7);
+
+    private VisitedCommandParser parser = new VisitedCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, VisitedCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_tooManyDates_throwsParseException() {
+        assertParseFailure(parser, "2024-10-01 2024-10-02 2024-10-03",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, VisitedCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_singleDate_returnsVisitedCommand() {
+        VisitedCommand expectedCommand = new VisitedCommand(new VisitDateInRangePredicate(OCT_1, OCT_1));
+        assertParseSuccess(parser, " 2024-10-01 ", expectedCommand);
+    }
+
+    @Test
+    public void parse_dateRange_returnsVisitedCommand() {
+        VisitedCommand expectedCommand = new VisitedCommand(new VisitDateInRangePredicate(OCT_1, OCT_7));
+        assertParseSuccess(parser, "2024-10-01   2024-10-07", expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidDate_throwsParseException() {
+        assertParseFailure(parser, "2024-02-30", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, "01/10/2024", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, "2024-10-01 tomorrow", ParserUtil.MESSAGE_INVALID_DATE);
+    }
+
+    @Test
+    public void parse_startAfterEnd_throwsParseException() {
+        assertParseFailure(parser, "2024-10-07 2024-10-01", VisitedCommandParser.MESSAGE_START_AFTER_END);
+    }
+}
@@ -54,6 +54,67 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void getVersion_mutations_incrementsVersion() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.resetData(getTypicalAddressBook());
+        assertTrue(addressBook.getVersion() > version);
+    }
+
+    @Test
+    public void getVersion_failedMutation_versionUnchanged() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getLatestChange_mutations_linkedOldestFirst() {
+        assertTrue(addressBook.getLatestChange().isEmpty());
+        addressBook.addPerson(ALICE);
+        PersonListChange added = addressBook.getLatestChange().get();
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(editedAlice);
+
+        List<PersonListChange> changes = addressBook.getLatestChange().get().getChangesSince(added).get();
+        assertEquals(2, changes.size());
+        assertEquals(0, changes.get(0).getPosition());
+        assertEquals(1, changes.get(0).getRemovedCount());
+        assertEquals(List.of(editedAlice), changes.get(0).getAddedPersons());
+        assertEquals(1, changes.get(1).getRemovedCount());
+        assertEquals(List.of(), changes.get(1).getAddedPersons());
+        assertTrue(added.getChangesSince(changes.get(1)).isEmpty());
+    }
+
+    @Test
+    public void getLatestChange_manyChanges_oldestUnlinked() {
+        addressBook.addPerson(ALICE);
+        PersonListChange first = addressBook.getLatestChange().get();
+        Person person = ALICE;
+        for (int i = 0; i < 1000; i++) {
+            Person edited = new PersonBuilder(person).withPhone(String.valueOf(10000 + i)).build();
+            addressBook.setPerson(person, edited);
+            person = edited;
+        }
+
+        assertTrue(addressBook.getLatestChange().get().getChangesSince(first).isEmpty());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
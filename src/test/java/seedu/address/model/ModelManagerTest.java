@@ -6,17 +6,32 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.PersonIndexes;
+import seedu.address.model.person.MedicineContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +108,84 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_indexedPredicate_editedPersonsTestedAgain() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new MedicineContainsKeywordsPredicate(List.of("paracetamol")));
+        assertEquals(List.of(ELLE, FIONA), modelManager.getFilteredPersonList());
+
+        Person editedCarl = new PersonBuilder(CARL).withMedicines("Paracetamol").build();
+        Person editedElle = new PersonBuilder(ELLE).withMedicines("Ibuprofen").build();
+        modelManager.setPerson(CARL, editedCarl);
+        modelManager.setPerson(ELLE, editedElle);
+        assertEquals(List.of(editedCarl, FIONA), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_sameIndexedPredicateAgain_notLookedUpOrTestedAgain() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        CountingPredicate paracetamol = new CountingPredicate(List.of("paracetamol"));
+        CountingPredicate aspirin = new CountingPredicate(List.of("aspirin"));
+        modelManager.updateFilteredPersonList(paracetamol);
+        List<Integer> changeCounts = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCounts.add(1));
+
+        modelManager.updateFilteredPersonList(paracetamol);
+        assertEquals(0, changeCounts.size());
+        assertEquals(1, paracetamol.findMatchesCount);
+        assertEquals(0, paracetamol.testCount);
+
+        modelManager.updateFilteredPersonList(aspirin);
+        modelManager.updateFilteredPersonList(paracetamol);
+        assertEquals(1, paracetamol.findMatchesCount);
+        assertEquals(0, paracetamol.testCount);
+        assertEquals(List.of(ELLE, FIONA), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void batch_manyChanges_singleListChange() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new MedicineContainsKeywordsPredicate(List.of("paracetamol")));
+        long version = modelManager.getAddressBookVersion();
+        List<Integer> changeCounts = new ArrayList<>();
+        modelManager.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change ->
+                changeCounts.add(1));
+
+        Person editedCarl = new PersonBuilder(CARL).withMedicines("Paracetamol").build();
+        modelManager.batch(addressBook -> {
+            addressBook.setPerson(CARL, editedCarl);
+            addressBook.removePerson(ELLE);
+            addressBook.addPerson(AMY);
+        });
+
+        assertEquals(1, changeCounts.size());
+        assertEquals(version + 1, modelManager.getAddressBookVersion());
+        assertTrue(modelManager.hasPerson(AMY));
+        assertFalse(modelManager.hasPerson(ELLE));
+        assertEquals(List.of(editedCarl, FIONA), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void batch_noChanges_addressBookUnchanged() {
+        long version = modelManager.getAddressBookVersion();
+        modelManager.batch(addressBook -> { });
+        assertEquals(version, modelManager.getAddressBookVersion());
+    }
+
+    @Test
+    public void batch_changesThrow_addressBookUnchanged() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        long version = modelManager.getAddressBookVersion();
+
+        assertThrows(PersonNotFoundException.class, () -> modelManager.batch(addressBook -> {
+            addressBook.removePerson(ALICE);
+            addressBook.removePerson(AMY);
+        }));
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertEquals(version, modelManager.getAddressBookVersion());
+        assertEquals(getTypicalAddressBook(), modelManager.getAddressBook());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -129,4 +222,28 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    /**
+     * A medicine predicate that counts how often it looks up its matches and tests a person.
+     */
+    private static class CountingPredicate extends MedicineContainsKeywordsPredicate {
+        private int findMatchesCount;
+        private int testCount;
+
+        CountingPredicate(List<String> keywords) {
+            super(keywords);
+        }
+
+        @Override
+        public boolean test(Person person) {
+            testCount++;
+            return super.test(person);
+        }
+
+        @Override
+        public Set<Person> findMatches(PersonIndexes indexes) {
+            findMatchesCount++;
+            return super.findMatches(indexes);
+        }
+    }
 }
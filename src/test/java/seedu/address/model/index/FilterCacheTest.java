@@ -0,0 +1,71 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+public class FilterCacheTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+    private final PersonIndexes indexes = new PersonIndexes(persons);
+    private final FilterCache cache = new FilterCache(2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, FilterCache.MESSAGE_CAPACITY_CONSTRAINTS, () ->
+                new FilterCache(0));
+    }
+
+    @Test
+    public void resolve_equalPredicateSameVersion_reusesResult() {
+        Predicate<Person> resolved = cache.resolve(nameContains("Alice"), 0, indexes);
+
+        assertSame(resolved, cache.resolve(nameContains("Alice"), 0, indexes));
+        assertTrue(resolved.test(ALICE));
+        assertFalse(resolved.test(BENSON));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void resolve_newVersion_looksUpAgain() {
+        Predicate<Person> resolved = cache.resolve(nameContains("Alice"), 0, indexes);
+        persons.remove(ALICE);
+        Predicate<Person> resolvedAgain = cache.resolve(nameContains("Alice"), 1, indexes);
+
+        assertNotSame(resolved, resolvedAgain);
+        assertSame(resolvedAgain, cache.resolve(nameContains("Alice"), 1, indexes));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void resolve_overCapacity_dropsLeastRecentlyUsed() {
+        Predicate<Person> alice = cache.resolve(nameContains("Alice"), 0, indexes);
+        Predicate<Person> benson = cache.resolve(nameContains("Benson"), 0, indexes);
+        cache.resolve(nameContains("Alice"), 0, indexes);
+        cache.resolve(nameContains("Carl"), 0, indexes);
+
+        assertEquals(2, cache.size());
+        assertSame(alice, cache.resolve(nameContains("Alice"), 0, indexes));
+        assertNotSame(benson, cache.resolve(nameContains("Benson"), 0, indexes));
+    }
+
+    private static NameContainsKeywordsPredicate nameContains(String... keywords) {
+        return new NameContainsKeywordsPredicate(List.of(keywords));
+    }
+}
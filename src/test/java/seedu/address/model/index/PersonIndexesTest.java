@@ -0,0 +1,195 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.DoctorNameContainsKeywordsPredicate;
+import seedu.address.model.person.LastVisitBeforePredicate;
+import seedu.address.model.person.MedicineContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.VisitDateInRangePredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIndexesTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+    private final PersonIndexes indexes = new PersonIndexes(persons);
+
+    @Test
+    public void findPatients_partialKeywordsInAnyCase_matchesLikePredicate() {
+        assertMatchesPredicate(List.of("PARA"));
+        assertMatchesPredicate(List.of("rob", "asp"));
+        assertMatchesPredicate(List.of("unknown"));
+        assertEquals(Set.of(ELLE, FIONA), indexes.getMedicineIndex().findPatients(List.of("PARA")));
+    }
+
+    @Test
+    public void getPatientsWithoutMedicines_matchesNoneKeyword() {
+        assertMatchesPredicate(Collections.emptyList());
+    }
+
+    @Test
+    public void listChanges_indexesFollowList() {
+        Person editedCarl = new PersonBuilder(CARL).withMedicines("Paracetamol").build();
+        persons.set(persons.indexOf(CARL), editedCarl);
+        persons.remove(ELLE);
+        persons.add(new PersonBuilder().withName("New Patient").withMedicines("aspirin").build());
+
+        assertEquals(Set.of(FIONA, editedCarl), indexes.getMedicineIndex().findPatients(List.of("paracetamol")));
+        assertMatchesPredicate(List.of("para"));
+        assertMatchesPredicate(List.of("aspirin", "robitussin"));
+        assertMatchesPredicate(Collections.emptyList());
+
+        persons.setAll(List.of(GEORGE));
+        assertTrue(indexes.getMedicineIndex().findPatients(List.of("a")).isEmpty());
+        assertEquals(Set.of(GEORGE), indexes.getMedicineIndex().getPatientsWithoutMedicines());
+    }
+
+    @Test
+    public void findMatches_nameAndDoctorKeywords_matchesLikePredicate() {
+        persons.add(new PersonBuilder().withName("Ali Tan").withDoctor("Tan Ali").build());
+        for (List<String> keywords : List.of(List.of("Meier"), List.of("mei"), List.of("KURZ", "alice"),
+                List.of("Al"), List.of("tan"), List.of("Ali", "Tan"))) {
+            assertMatchesPredicate(new NameContainsKeywordsPredicate(keywords));
+            assertMatchesPredicate(new DoctorNameContainsKeywordsPredicate(keywords));
+        }
+    }
+
+    @Test
+    public void findPatients_sharedDoctorsAfterChanges_matchesLikePredicate() {
+        Person firstPatient = new PersonBuilder().withName("First Patient").withDoctor("Lim Wei").build();
+        Person secondPatient = new PersonBuilder().withName("Second Patient").withDoctor("Lim Wei").build();
+        persons.addAll(firstPatient, secondPatient);
+        assertEquals(Set.of(firstPatient, secondPatient), indexes.getDoctorIndex().findPatients(List.of("LIM")));
+
+        persons.remove(firstPatient);
+        persons.set(persons.indexOf(secondPatient), new PersonBuilder(secondPatient).withDoctor("Goh Wei").build());
+        assertTrue(indexes.getDoctorIndex().findPatients(List.of("lim")).isEmpty());
+        for (List<String> keywords : List.of(List.of("wei"), List.of("Goh", "Lim"), List.of("we"))) {
+            assertMatchesPredicate(new DoctorNameContainsKeywordsPredicate(keywords));
+        }
+    }
+
+    @Test
+    public void resolve_personsAddedAfterwards_testedWithPredicate() {
+        Predicate<Person> resolved = indexes.resolve(new MedicineContainsKeywordsPredicate(List.of("para")));
+        Person newPatient = new PersonBuilder().withName("New Patient").withMedicines("Paracetamol").build();
+        persons.add(newPatient);
+
+        assertTrue(resolved.test(ELLE));
+        assertTrue(resolved.test(newPatient));
+        assertFalse(resolved.test(CARL));
+        assertFalse(resolved.test(new PersonBuilder(CARL).build()));
+    }
+
+    @Test
+    public void resolve_wholeListReplaced_unchangedPersonsKeepResult() {
+        Predicate<Person> resolved = indexes.resolve(new MedicineContainsKeywordsPredicate(List.of("para")));
+        Person editedCarl = new PersonBuilder(CARL).withMedicines("Paracetamol").build();
+        List<Person> replacement = new ArrayList<>(persons);
+        replacement.set(replacement.indexOf(CARL), editedCarl);
+        replacement.remove(FIONA);
+        persons.setAll(replacement);
+
+        assertTrue(resolved.test(ELLE));
+        assertTrue(resolved.test(editedCarl));
+        assertMatchesPredicate(List.of("para"));
+        assertMatchesPredicate(Collections.emptyList());
+    }
+
+    @Test
+    public void findPatients_visitsLoggedBeforeAndAfterSearches_matchesLikePredicate() {
+        LocalDate firstDay = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < 40; i++) {
+            persons.add(new PersonBuilder().withName("Patient " + i)
+                    .withVisitDates(firstDay.plusDays(i).toString(), firstDay.plusDays(2 * i).toString()).build());
+        }
+        assertMatchesVisitsBetween(firstDay, firstDay.plusDays(10));
+
+        // A few changes are tested directly, and many make the next search rebuild the index
+        for (int changes : List.of(3, 30)) {
+            for (int i = 0; i < changes; i++) {
+                Person person = persons.get(persons.size() - 1 - i);
+                persons.set(persons.size() - 1 - i,
+                        person.withDayList(person.getDayList().addVisitDate(firstDay.plusDays(5 + changes))));
+            }
+            persons.remove(persons.size() - 1 - changes);
+            for (LocalDate to : List.of(firstDay, firstDay.plusDays(5 + changes), firstDay.plusDays(100))) {
+                assertMatchesVisitsBetween(firstDay.plusDays(1), to);
+            }
+        }
+    }
+
+    @Test
+    public void estimateMatches_indexedPredicates_atLeastMatchCount() {
+        LocalDate firstDay = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < 20; i++) {
+            persons.add(new PersonBuilder().withName("Patient " + i).withDoctor("Dr Lim " + (i % 3))
+                    .withVisitDates(firstDay.plusDays(i).toString()).build());
+        }
+        List<IndexedPredicate> predicates = List.of(
+                new NameContainsKeywordsPredicate(List.of("Patient", "Meier")),
+                new NameContainsKeywordsPredicate(List.of("zzz")),
+                new DoctorNameContainsKeywordsPredicate(List.of("lim")),
+                new MedicineContainsKeywordsPredicate(List.of("para")),
+                new MedicineContainsKeywordsPredicate(List.of()),
+                new VisitDateInRangePredicate(firstDay, firstDay.plusDays(4)),
+                new LastVisitBeforePredicate(firstDay.plusDays(10)));
+        for (IndexedPredicate predicate : predicates) {
+            int matchCount = predicate.findMatches(indexes).size();
+            int estimate = predicate.estimateMatches(indexes);
+            assertTrue(estimate >= matchCount, predicate + " estimated " + estimate + " of " + matchCount);
+        }
+        assertEquals(0, new NameContainsKeywordsPredicate(List.of("zzz")).estimateMatches(indexes));
+    }
+
+    @Test
+    public void findPatientsLastSeenBefore_leastRecentlySeenFirst() {
+        LocalDate firstDay = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < 10; i++) {
+            persons.add(new PersonBuilder().withName("Patient " + i)
+                    .withVisitDates(firstDay.plusDays((7 * i) % 10).toString()).build());
+        }
+        LastVisitBeforePredicate predicate = new LastVisitBeforePredicate(firstDay.plusDays(6));
+        assertMatchesPredicate(predicate);
+
+        List<LocalDate> expected = persons.stream().filter(predicate)
+                .sorted(LastVisitBeforePredicate.LEAST_RECENTLY_SEEN_FIRST)
+                .map(person -> person.getDayList().getMostRecentVisit()).collect(Collectors.toList());
+        List<LocalDate> actual = predicate.findMatches(indexes).stream()
+                .map(person -> person.getDayList().getMostRecentVisit()).collect(Collectors.toList());
+        assertEquals(expected, actual);
+    }
+
+    private void assertMatchesPredicate(List<String> keywords) {
+        assertMatchesPredicate(new MedicineContainsKeywordsPredicate(keywords));
+    }
+
+    private void assertMatchesVisitsBetween(LocalDate from, LocalDate to) {
+        assertMatchesPredicate(new VisitDateInRangePredicate(from, to));
+    }
+
+    private void assertMatchesPredicate(IndexedPredicate predicate) {
+        Set<Person> expected = persons.stream().filter(predicate).collect(Collectors.toSet());
+        assertEquals(expected, Set.copyOf(predicate.findMatches(indexes)));
+    }
+}
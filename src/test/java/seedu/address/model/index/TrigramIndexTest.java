@@ -0,0 +1,45 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex<String> index = new TrigramIndex<>();
+
+    @Test
+    public void findCandidates_substringIgnoringCase_findsValues() {
+        index.add("alice", List.of("Alice Pauline"));
+        index.add("benson", List.of("Benson Meier"));
+        index.add("daniel", List.of("Daniel Meier", "Dr Tan"));
+
+        assertEquals(Optional.of(Set.of("benson", "daniel")), index.findCandidates("MEIER"));
+        assertEquals(Optional.of(Set.of("alice")), index.findCandidates("e pau"));
+        assertEquals(Optional.of(Set.of("daniel")), index.findCandidates(" dr tan "));
+        assertEquals(Optional.of(Set.of()), index.findCandidates("xyz"));
+    }
+
+    @Test
+    public void findCandidates_substringShorterThanTrigram_cannotNarrow() {
+        index.add("alice", List.of("Alice Pauline"));
+
+        assertEquals(Optional.empty(), index.findCandidates("al"));
+        assertEquals(Optional.empty(), index.findCandidates(" a "));
+    }
+
+    @Test
+    public void remove_valueRemoved_noLongerFound() {
+        index.add("alice", List.of("Alice Pauline"));
+        index.add("alison", List.of("Alison Lee"));
+        index.remove("alice", List.of("Alice Pauline"));
+
+        assertEquals(Optional.of(Set.of("alison")), index.findCandidates("ali"));
+        assertTrue(index.findCandidates("pauline").get().isEmpty());
+    }
+}
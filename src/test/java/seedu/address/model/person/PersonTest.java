@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -24,6 +25,40 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void getMedicines_modify_throwsUnsupportedOperationException() {
+        Person person = new PersonBuilder().withMedicines("Paracetamol").build();
+        assertThrows(UnsupportedOperationException.class, () -> person.getMedicines().clear());
+        assertThrows(UnsupportedOperationException.class, () -> person.getMedicines().iterator().remove());
+    }
+
+    @Test
+    public void constructor_setsOfAnotherPerson_shared() {
+        Person copy = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                ALICE.getDoctor(), ALICE.getTags(), ALICE.getMedicines(), ALICE.getDayList());
+
+        assertSame(ALICE.getTags(), copy.getTags());
+        assertSame(ALICE.getMedicines(), copy.getMedicines());
+    }
+
+    @Test
+    public void withPhone_otherFieldsShared() {
+        Person editedAlice = ALICE.withPhone(new Phone(VALID_PHONE_BOB));
+
+        assertEquals(new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build(), editedAlice);
+        assertSame(ALICE.getName(), editedAlice.getName());
+        assertSame(ALICE.getTags(), editedAlice.getTags());
+        assertSame(ALICE.getMedicines(), editedAlice.getMedicines());
+        assertSame(ALICE.getDayList(), editedAlice.getDayList());
+    }
+
+    @Test
+    public void with_unchangedField_returnsSamePerson() {
+        assertSame(ALICE, ALICE.withName(ALICE.getName()));
+        assertSame(ALICE, ALICE.withTags(ALICE.getTags()));
+        assertSame(ALICE, ALICE.withDayList(ALICE.getDayList()));
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -90,6 +125,15 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void hashCode_equalPersons_sameHashCode() {
+        assertEquals(ALICE.hashCode(), new PersonBuilder(ALICE).build().hashCode());
+
+        // differs only in doctor -> not equal
+        Person otherDoctor = new PersonBuilder(ALICE).withDoctor("Dr Someone Else").build();
+        assertFalse(ALICE.equals(otherDoctor));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName()
@@ -7,14 +7,22 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -127,6 +135,33 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_equalPersonNotSameInstance_removesPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(new PersonBuilder(ALICE).build());
+        assertEquals(new UniquePersonList(), uniquePersonList);
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void setPersonAndRemove_afterEarlierRemovals_updatesCorrectPositions() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.setPerson(DANIEL, BOB);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(FIONA);
+        uniquePersonList.remove(ELLE);
+        uniquePersonList.setPerson(FIONA, AMY);
+
+        assertEquals(Arrays.asList(CARL, BOB, AMY), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +197,65 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSeveralDuplicateGroups_allGroupsReported() {
+        Person aliceInCaps = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        List<Person> persons = Arrays.asList(BOB, ALICE, BOB, aliceInCaps, ALICE);
+        String expectedMessage = DuplicatePersonException.MESSAGE_DUPLICATE_PERSONS + ": ["
+                + BOB.getName() + ", " + BOB.getName() + "], ["
+                + ALICE.getName() + ", " + aliceInCaps.getName() + ", " + ALICE.getName() + "]";
+
+        assertThrows(DuplicatePersonException.class, expectedMessage, () -> uniquePersonList.setPersons(persons));
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void batch_manyChanges_listenersNotifiedOnce() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        List<Person> removedPersons = new ArrayList<>();
+        List<Person> addedPersons = new ArrayList<>();
+        List<Integer> changeCounts = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            changeCounts.add(1);
+            while (change.next()) {
+                removedPersons.addAll(change.getRemoved());
+                addedPersons.addAll(change.getAddedSubList());
+            }
+        });
+
+        Person editedBenson = new PersonBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.batch(() -> {
+            uniquePersonList.setPerson(BENSON, editedBenson);
+            uniquePersonList.remove(DANIEL);
+            uniquePersonList.add(ELLE);
+        });
+
+        assertEquals(1, changeCounts.size());
+        assertFalse(removedPersons.contains(ALICE));
+        assertTrue(addedPersons.containsAll(List.of(editedBenson, ELLE)));
+        assertEquals(Arrays.asList(ALICE, editedBenson, CARL, ELLE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void batch_changesThrow_changesUndone() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.batch(() -> {
+            uniquePersonList.remove(ALICE);
+            uniquePersonList.setPerson(CARL, editedCarl);
+            uniquePersonList.add(DANIEL);
+            uniquePersonList.remove(FIONA);
+        }));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(DANIEL));
+
+        // positions are still consistent after the undo
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.setPerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(ALICE, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,141 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.PersonIndexes;
+import seedu.address.model.person.DoctorNameContainsKeywordsPredicate;
+import seedu.address.model.person.MedicineContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+
+public class QueryTest {
+
+    private static final Query NAME_MEIER = Query.of(new NameContainsKeywordsPredicate(List.of("meier")));
+    private static final Query DOCTOR_TAN = Query.of(new DoctorNameContainsKeywordsPredicate(List.of("tan")));
+    private static final Query MEDICINE_PARA = Query.of(new MedicineContainsKeywordsPredicate(List.of("para")));
+    private static final Query TAG_FRIENDS = Query.of(new TagContainsKeywordsPredicate(List.of("FRIENDS")));
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+    private final PersonIndexes indexes = new PersonIndexes(persons);
+
+    @Test
+    public void findMatches_andWithUnindexedCriterion_testedOnIndexedMatches() {
+        assertMatchesScan(Query.and(List.of(NAME_MEIER, TAG_FRIENDS)), Set.of(BENSON, DANIEL));
+    }
+
+    @Test
+    public void findMatches_andOfIndexedCriteria_onlyMostSelectiveLookedUp() {
+        LookupCountingPredicate everyone = new LookupCountingPredicate(person -> true, persons.size());
+        LookupCountingPredicate onlyElle = new LookupCountingPredicate(person -> person == ELLE, 1);
+
+        assertMatchesScan(Query.and(List.of(Query.of(everyone), Query.of(onlyElle))), Set.of(ELLE));
+        assertEquals(0, everyone.lookupCount);
+        assertEquals(1, onlyElle.lookupCount);
+    }
+
+    @Test
+    public void findMatches_andWithNot_matchesScan() {
+        assertMatchesScan(Query.and(List.of(MEDICINE_PARA, Query.not(DOCTOR_TAN))), Set.of(FIONA));
+    }
+
+    @Test
+    public void findMatches_orOfIndexedCriteria_matchesScan() {
+        assertMatchesScan(Query.or(List.of(DOCTOR_TAN, NAME_MEIER)), Set.of(persons.get(1), persons.get(2),
+                persons.get(3), ELLE));
+    }
+
+    @Test
+    public void findMatches_noIndexedCriterion_scansAllPersons() {
+        assertMatchesScan(Query.not(TAG_FRIENDS), persons.stream()
+                .filter(person -> !TAG_FRIENDS.test(person)).collect(Collectors.toSet()));
+        assertMatchesScan(Query.or(List.of(TAG_FRIENDS, MEDICINE_PARA)), persons.stream()
+                .filter(person -> TAG_FRIENDS.test(person) || MEDICINE_PARA.test(person))
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void findMatches_nestedQueries_matchesScan() {
+        assertMatchesScan(Query.and(List.of(Query.or(List.of(DOCTOR_TAN, TAG_FRIENDS)),
+                Query.not(NAME_MEIER))), persons.stream()
+                .filter(person -> (DOCTOR_TAN.test(person) || TAG_FRIENDS.test(person)) && !NAME_MEIER.test(person))
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void and_singleQuery_returnsQuery() {
+        assertEquals(NAME_MEIER, Query.and(List.of(NAME_MEIER)));
+        assertEquals(NAME_MEIER, Query.or(List.of(NAME_MEIER)));
+    }
+
+    @Test
+    public void equals() {
+        Query query = Query.and(List.of(NAME_MEIER, Query.not(TAG_FRIENDS)));
+
+        assertTrue(query.equals(Query.and(List.of(NAME_MEIER, Query.not(TAG_FRIENDS)))));
+        assertFalse(query.equals(Query.or(List.of(NAME_MEIER, Query.not(TAG_FRIENDS)))));
+        assertFalse(query.equals(Query.and(List.of(NAME_MEIER, TAG_FRIENDS))));
+        assertFalse(query.equals(null));
+    }
+
+    @Test
+    public void hashCode_equalQueries_sameHashCode() {
+        Query query = Query.and(List.of(NAME_MEIER, Query.not(TAG_FRIENDS)));
+        Query equalQuery = Query.and(List.of(Query.of(new NameContainsKeywordsPredicate(List.of("meier"))),
+                Query.not(Query.of(new TagContainsKeywordsPredicate(List.of("FRIENDS"))))));
+
+        assertEquals(query.hashCode(), equalQuery.hashCode());
+    }
+
+    private void assertMatchesScan(Query query, Set<Person> expectedMatches) {
+        assertEquals(expectedMatches, Set.copyOf(query.findMatches(indexes)));
+        assertEquals(expectedMatches, Set.copyOf(indexes.scan(query)));
+    }
+
+    /**
+     * An indexed predicate with a fixed estimate that counts how often its matches are looked up.
+     */
+    private static class LookupCountingPredicate implements IndexedPredicate {
+        private final Predicate<Person> predicate;
+        private final int estimate;
+        private int lookupCount;
+
+        LookupCountingPredicate(Predicate<Person> predicate, int estimate) {
+            this.predicate = predicate;
+            this.estimate = estimate;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return predicate.test(person);
+        }
+
+        @Override
+        public Set<Person> findMatches(PersonIndexes indexes) {
+            lookupCount++;
+            return indexes.scan(predicate);
+        }
+
+        @Override
+        public int estimateMatches(PersonIndexes indexes) {
+            return estimate;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.lang.ref.WeakReference;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.medicine.Medicine;
+import seedu.address.model.person.Doctor;
+import seedu.address.model.tag.Tag;
+
+public class InternPoolTest {
+
+    private final InternPool<Tag> pool = new InternPool<>(Tag::new, tag -> tag.tagName);
+
+    @Test
+    public void intern_sameName_returnsSameInstance() {
+        Tag tag = pool.intern("chronic");
+        assertSame(tag, pool.intern(new String("chronic")));
+        assertEquals(new Tag("chronic"), tag);
+    }
+
+    @Test
+    public void intern_differentNames_returnsDifferentValues() {
+        assertNotSame(pool.intern("chronic"), pool.intern("Chronic"));
+    }
+
+    @Test
+    public void intern_invalidName_throwsFactoryException() {
+        assertThrows(IllegalArgumentException.class, () -> pool.intern("not valid"));
+        assertThrows(NullPointerException.class, () -> pool.intern(null));
+    }
+
+    @Test
+    public void intern_unusedValueCollected_internedAgain() {
+        WeakReference<Tag> unused = new WeakReference<>(pool.intern("temporary"));
+        Tag kept = pool.intern("kept");
+        for (int i = 0; i < 50 && unused.get() != null; i++) {
+            System.gc();
+        }
+        assumeTrue(unused.get() == null, "the unused tag was not collected");
+
+        Tag reinterned = pool.intern("temporary");
+        assertEquals(new Tag("temporary"), reinterned);
+        assertSame(reinterned, pool.intern("temporary"));
+        assertSame(kept, pool.intern("kept"));
+    }
+
+    @Test
+    public void of_valueClasses_shareInstances() {
+        assertSame(Tag.of("allergy"), Tag.of("allergy"));
+        assertSame(Medicine.of("Paracetamol 500mg"), Medicine.of("Paracetamol 500mg"));
+        assertSame(Doctor.of("Dr Tan"), Doctor.of("Dr Tan"));
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.model.visit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.CountingVisitHistoryStore;
+
+public class DayListTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2024, 1, 1);
+    private static final LocalDate FEB_1 = LocalDate.of(2024, 2, 1);
+    private static final LocalDate MAR_1 = LocalDate.of(2024, 3, 1);
+
+    @Test
+    public void constructor_unsortedWithRepeats_sortedAndDistinct() {
+        DayList dayList = new DayList(List.of(MAR_1, JAN_1, MAR_1, FEB_1));
+
+        assertEquals(List.of(JAN_1, FEB_1, MAR_1), dayList.getVisitDates());
+        assertEquals(3, dayList.getVisitCount());
+        assertEquals(JAN_1, dayList.getEarliestVisit());
+        assertEquals(MAR_1, dayList.getMostRecentVisit());
+    }
+
+    @Test
+    public void constructor_empty_noVisits() {
+        DayList dayList = new DayList();
+
+        assertEquals(List.of(), dayList.getVisitDates());
+        assertNull(dayList.getEarliestVisit());
+        assertNull(dayList.getMostRecentVisit());
+        assertFalse(dayList.hasVisitDate(JAN_1));
+    }
+
+    @Test
+    public void constructor_dateOutOfRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, DayList.MESSAGE_DATE_OUT_OF_RANGE, () ->
+                new DayList(List.of(LocalDate.MAX)));
+    }
+
+    @Test
+    public void addVisitDate_keepsOrderAndOriginalUnchanged() {
+        DayList original = new DayList(List.of(JAN_1, MAR_1));
+        DayList updated = original.addVisitDate(FEB_1);
+
+        assertEquals(List.of(JAN_1, FEB_1, MAR_1), updated.getVisitDates());
+        assertEquals(List.of(JAN_1, MAR_1), original.getVisitDates());
+        assertSame(updated, updated.addVisitDate(FEB_1));
+    }
+
+    @Test
+    public void removeVisitDate_presentAndAbsentDates() {
+        DayList dayList = new DayList(List.of(JAN_1, FEB_1, MAR_1));
+
+        assertEquals(new DayList(List.of(JAN_1, MAR_1)), dayList.removeVisitDate(FEB_1));
+        assertEquals(dayList, dayList.removeVisitDate(LocalDate.of(2024, 2, 2)));
+        assertEquals(new DayList(), new DayList(List.of(JAN_1)).removeVisitDate(JAN_1));
+    }
+
+    @Test
+    public void hasVisitDate() {
+        DayList dayList = new DayList(List.of(JAN_1, MAR_1));
+
+        assertTrue(dayList.hasVisitDate(JAN_1));
+        assertTrue(dayList.hasVisitDate(MAR_1));
+        assertFalse(dayList.hasVisitDate(FEB_1));
+        assertFalse(dayList.hasVisitDate(LocalDate.MIN));
+        assertFalse(dayList.hasVisitDate(LocalDate.MAX));
+    }
+
+    @Test
+    public void hasVisitBetween() {
+        DayList dayList = new DayList(List.of(JAN_1, MAR_1));
+
+        assertTrue(dayList.hasVisitBetween(JAN_1, JAN_1));
+        assertTrue(dayList.hasVisitBetween(FEB_1, MAR_1));
+        assertTrue(dayList.hasVisitBetween(LocalDate.MIN, LocalDate.MAX));
+        assertFalse(dayList.hasVisitBetween(FEB_1, FEB_1.plusDays(20)));
+        assertFalse(dayList.hasVisitBetween(MAR_1, JAN_1));
+        assertFalse(new DayList().hasVisitBetween(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void stored_readRepeatedly_loadedFromStoreEachTime() {
+        CountingVisitHistoryStore store = new CountingVisitHistoryStore();
+        DayList dayList = new DayList(List.of(JAN_1, MAR_1));
+        DayList stored = store.store(dayList);
+
+        assertEquals(2, stored.getVisitCount());
+        assertEquals(0, store.getLoadCount());
+
+        assertEquals(List.of(JAN_1, MAR_1), stored.getVisitDates());
+        assertTrue(stored.hasVisitDate(MAR_1));
+        assertFalse(stored.hasVisitDate(FEB_1));
+        assertTrue(stored.hasVisitBetween(FEB_1, MAR_1));
+        assertFalse(stored.hasVisitBetween(JAN_1.plusDays(1), FEB_1));
+        assertEquals(List.of(JAN_1, MAR_1), stored.getVisitDates());
+        assertEquals(6, store.getLoadCount());
+    }
+
+    @Test
+    public void equals_storedDayLists_comparedWithoutLoading() {
+        CountingVisitHistoryStore store = new CountingVisitHistoryStore();
+        DayList dayList = new DayList(List.of(JAN_1, MAR_1));
+
+        assertEquals(dayList, store.store(dayList));
+        assertEquals(store.store(dayList), store.store(dayList));
+        assertNotEquals(store.store(dayList), store.store(new DayList(List.of(JAN_1, FEB_1))));
+        assertEquals(0, store.getLoadCount());
+    }
+
+    @Test
+    public void getVisitDates_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () ->
+                new DayList(List.of(JAN_1)).getVisitDates().add(FEB_1));
+    }
+
+    @Test
+    public void equals() {
+        DayList dayList = new DayList(List.of(JAN_1, FEB_1));
+
+        assertEquals(dayList, new DayList(List.of(FEB_1, JAN_1)));
+        assertEquals(dayList.hashCode(), new DayList(List.of(FEB_1, JAN_1)).hashCode());
+        assertEquals(dayList, new DayList().addVisitDate(FEB_1).addVisitDate(JAN_1));
+        assertNotEquals(dayList, new DayList(List.of(JAN_1)));
+        assertNotEquals(dayList, null);
+    }
+}
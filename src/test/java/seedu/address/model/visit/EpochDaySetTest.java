@@ -0,0 +1,117 @@
+package seedu.address.model.visit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+public class EpochDaySetTest {
+
+    @Test
+    public void add_manyDays_sortedAcrossLeaves() {
+        EpochDaySet set = EpochDaySet.EMPTY;
+        for (int day = 2000; day > 0; day -= 2) {
+            set = set.add(day);
+        }
+
+        assertEquals(1000, set.size());
+        assertEquals(2, set.first());
+        assertEquals(2000, set.last());
+        assertTrue(set.contains(1000));
+        assertFalse(set.contains(1001));
+        assertEquals(EpochDaySet.of(evenDaysUpTo(2000)), set);
+    }
+
+    @Test
+    public void add_presentDay_returnsSameSet() {
+        EpochDaySet set = EpochDaySet.of(new int[] {1, 2, 3});
+
+        assertSame(set, set.add(2));
+        assertSame(set, set.remove(4));
+    }
+
+    @Test
+    public void remove_allDays_empty() {
+        EpochDaySet set = EpochDaySet.of(evenDaysUpTo(2000));
+        for (int day = 2; day <= 2000; day += 2) {
+            set = set.remove(day);
+        }
+
+        assertSame(EpochDaySet.EMPTY, set);
+        assertFalse(set.contains(2));
+    }
+
+    @Test
+    public void addAndRemove_randomDays_matchesTreeSetAndOldVersionsUnchanged() {
+        Random random = new Random(17);
+        TreeSet<Integer> expected = new TreeSet<>();
+        EpochDaySet set = EpochDaySet.EMPTY;
+        List<EpochDaySet> versions = new ArrayList<>();
+        List<int[]> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int day = random.nextInt(3000) - 1000;
+            if (random.nextInt(3) == 0) {
+                expected.remove(day);
+                set = set.remove(day);
+            } else {
+                expected.add(day);
+                set = set.add(day);
+            }
+            if (i % 250 == 0) {
+                versions.add(set);
+                expectedVersions.add(toArray(expected));
+            }
+        }
+
+        assertArrayEquals(toArray(expected), set.toArray());
+        assertEquals(EpochDaySet.of(toArray(expected)).hashCode(), set.hashCode());
+        for (int i = 0; i < versions.size(); i++) {
+            assertArrayEquals(expectedVersions.get(i), versions.get(i).toArray());
+        }
+    }
+
+    @Test
+    public void containsBetween_acrossLeaves() {
+        EpochDaySet set = EpochDaySet.of(evenDaysUpTo(2000));
+
+        assertTrue(set.containsBetween(63, 65));
+        assertTrue(set.containsBetween(-5, 2));
+        assertTrue(set.containsBetween(2000, 3000));
+        assertFalse(set.containsBetween(63, 63));
+        assertFalse(set.containsBetween(2001, 3000));
+        assertFalse(set.containsBetween(-5, 1));
+        assertFalse(set.containsBetween(10, 4));
+    }
+
+    @Test
+    public void equals() {
+        EpochDaySet set = EpochDaySet.of(new int[] {1, 5, 9});
+
+        assertEquals(set, EpochDaySet.EMPTY.add(9).add(1).add(5));
+        assertEquals(set.hashCode(), EpochDaySet.EMPTY.add(9).add(1).add(5).hashCode());
+        assertNotEquals(set, set.remove(5));
+        assertNotEquals(set, null);
+    }
+
+    private static int[] evenDaysUpTo(int last) {
+        int[] days = new int[last / 2];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = 2 * (i + 1);
+        }
+        return days;
+    }
+
+    private static int[] toArray(TreeSet<Integer> days) {
+        return days.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
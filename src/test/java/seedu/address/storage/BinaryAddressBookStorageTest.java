@@ -0,0 +1,158 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder().withName("Visits Before Epoch").withTags("friends", "new")
+                .withMedicines("Panadol").withVisitDates("1969-12-31", "1970-01-01", "2024-02-29").build());
+        original.addPerson(new PersonBuilder().withName("No Visits").withDoctor("").withVisitDates().build());
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookFormat.isBinaryFile(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // overwrite the existing file
+        original.removePerson(original.getPersonList().get(0));
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_readAsJson() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // the next save converts the file
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookFormat.isBinaryFile(filePath));
+    }
+
+    @Test
+    public void readAddressBook_binaryFileThroughJsonStorage_readAsBinary() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        storage.saveAddressBook(original);
+        assertFalse(BinaryAddressBookFormat.isBinaryFile(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_otherJsonFile_exportedAsJson() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        Path exportPath = testFolder.resolve("export.json");
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original, exportPath);
+        assertFalse(BinaryAddressBookFormat.isBinaryFile(exportPath));
+        assertEquals(original, new AddressBook(JsonAddressBookReader.read(exportPath)));
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        Path binaryPath = testFolder.resolve("addressbook.bin");
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.size(binaryPath) * 3 < Files.size(jsonPath));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_countsBeyondFileSize_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        int stringTableSizeOffset = Integer.BYTES + 1;
+
+        // a string table of Integer.MAX_VALUE strings, which must be rejected before allocating it
+        byte[] hugeStringTable = Arrays.copyOf(bytes, stringTableSizeOffset + 5);
+        System.arraycopy(new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07}, 0,
+                hugeStringTable, stringTableSizeOffset, 5);
+        Files.write(filePath, hugeStringTable);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+
+        // a string longer than the rest of the file
+        byte[] hugeString = Arrays.copyOf(bytes, stringTableSizeOffset + 6);
+        System.arraycopy(new byte[] {0x01, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07}, 0,
+                hugeString, stringTableSizeOffset, 6);
+        Files.write(filePath, hugeString);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[Integer.BYTES] = BinaryAddressBookFormat.VERSION + 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonInJsonFile_throwsDataLoadingException() {
+        Path filePath = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath).saveAddressBook(null));
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JournaledAddressBookStorage createStorage(int compactionThreshold) {
+        return new JournaledAddressBookStorage(
+                new JsonAddressBookStorage(testFolder.resolve("addressbook.json")), compactionThreshold);
+    }
+
+    private long countJournalLines(JournaledAddressBookStorage storage) throws Exception {
+        return Files.readAllLines(storage.getJournalFilePath()).size();
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage(10).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournal() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(storage.getAddressBookFilePath());
+        assertEquals(1, countJournalLines(storage));
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        original.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(original);
+
+        // snapshot untouched, one journal entry per save
+        assertEquals(snapshot, Files.readString(storage.getAddressBookFilePath()));
+        assertEquals(4, countJournalLines(storage));
+
+        // saving without changes writes nothing
+        storage.saveAddressBook(original);
+        assertEquals(4, countJournalLines(storage));
+
+        assertEquals(original, new AddressBook(createStorage(10).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_compactsJournal() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(2);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(3, countJournalLines(storage));
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(1, countJournalLines(storage));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            // the journal is replaced through a temporary file, which must not be left behind
+            assertEquals(2, files.count());
+        }
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(storage.getAddressBookFilePath())
+                .readAddressBook().get()));
+        assertEquals(original, new AddressBook(createStorage(2).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_continuesJournalAfterReload() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        JournaledAddressBookStorage reloadedStorage = createStorage(10);
+        AddressBook reloaded = new AddressBook(reloadedStorage.readAddressBook().get());
+        reloaded.addPerson(IDA);
+        reloadedStorage.saveAddressBook(reloaded);
+
+        assertEquals(3, countJournalLines(reloadedStorage));
+        assertEquals(reloaded, new AddressBook(createStorage(10).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_trackedChanges_journaledWithoutComparingLists() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // Comparing the lists would find nothing to save, as BENSON is back in place, but both changes were tracked
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        original.setPerson(BENSON, editedBenson);
+        original.setPerson(editedBenson, BENSON);
+        storage.saveAddressBook(original);
+
+        assertEquals(3, countJournalLines(storage));
+        assertEquals(original, new AddressBook(createStorage(10).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplacedExternally_journalIgnored() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // Replaced by a snapshot of the same size with the same modification time
+        Path snapshotPath = storage.getAddressBookFilePath();
+        FileTime modified = Files.getLastModifiedTime(snapshotPath);
+        String snapshot = Files.readString(snapshotPath);
+        String external = snapshot.replace(ALICE.getPhone().value, ALICE.getPhone().value.replace('4', '5'));
+        assertNotEquals(snapshot, external);
+        Files.writeString(snapshotPath, external);
+        Files.setLastModifiedTime(snapshotPath, modified);
+
+        AddressBook expected = new AddressBook(new JsonAddressBookStorage(snapshotPath).readAddressBook().get());
+        assertEquals(expected, new AddressBook(createStorage(10).readAddressBook().get()));
+        assertFalse(expected.hasPerson(HOON));
+    }
+
+    @Test
+    public void readAddressBook_tornLastEntry_ignoredAndRewrittenOnSave() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(10);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.write(storage.getJournalFilePath(), "{\"from\":3,\"remo".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reloadedStorage = createStorage(10);
+        AddressBook reloaded = new AddressBook(reloadedStorage.readAddressBook().get());
+        assertEquals(original, reloaded);
+
+        reloaded.addPerson(IDA);
+        reloadedStorage.saveAddressBook(reloaded);
+        assertEquals(1, countJournalLines(reloadedStorage));
+        assertEquals(reloaded, new AddressBook(createStorage(10).readAddressBook().get()));
+    }
+}
@@ -60,6 +60,18 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_duplicatePersonAddressBook_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("duplicatePersonAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_extraFields_ignored() throws Exception {
+        ReadOnlyAddressBook readBack = readAddressBook("extraFieldsAddressBook.json").get();
+        assertEquals(1, readBack.getPersonList().size());
+        assertEquals("Alice Pauline", readBack.getPersonList().get(0).getName().fullName);
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
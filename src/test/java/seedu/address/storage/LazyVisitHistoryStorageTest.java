@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.visit.DayList;
+import seedu.address.testutil.CountingVisitHistoryStore;
+import seedu.address.testutil.PersonBuilder;
+
+public class LazyVisitHistoryStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_longHistories_storedOutOfMemory() throws Exception {
+        Person longHistory = new PersonBuilder().withName("Long History")
+                .withVisitDates(createVisitDates(LocalDate.of(2020, 1, 1), 40)).build();
+        Person shortHistory = new PersonBuilder().withName("Short History")
+                .withVisitDates("2024-01-01", "2024-02-01").build();
+        AddressBook original = new AddressBook();
+        original.addPerson(longHistory);
+        original.addPerson(shortHistory);
+
+        ReadOnlyAddressBook read = saveAndRead(original, VisitHistoryFile.DEFAULT_CACHE_SIZE);
+        DayList readLongHistory = read.getPersonList().get(0).getDayList();
+        DayList readShortHistory = read.getPersonList().get(1).getDayList();
+
+        assertTrue(readLongHistory.isStored());
+        assertFalse(readShortHistory.isStored());
+        assertEquals(original, new AddressBook(read));
+
+        // summaries are available without loading, and agree with the loaded dates
+        assertEquals(40, readLongHistory.getVisitCount());
+        assertEquals(LocalDate.of(2020, 1, 1), readLongHistory.getEarliestVisit());
+        assertEquals(longHistory.getDayList().getMostRecentVisit(), readLongHistory.getMostRecentVisit());
+        assertEquals(longHistory.getDayList().hashCode(), readLongHistory.hashCode());
+        assertEquals(longHistory.getDayList().getVisitDates(), readLongHistory.getVisitDates());
+        assertTrue(readLongHistory.hasVisitDate(LocalDate.of(2020, 1, 8)));
+
+        DayList updated = readLongHistory.addVisitDate(LocalDate.of(2030, 1, 1));
+        assertFalse(updated.isStored());
+        assertEquals(41, updated.getVisitCount());
+    }
+
+    @Test
+    public void readAddressBook_moreHistoriesThanCache_allLoadedCorrectly() throws Exception {
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 5; i++) {
+            original.addPerson(new PersonBuilder().withName("Patient " + i)
+                    .withVisitDates(createVisitDates(LocalDate.of(2000 + i, 1, 1), 10 + i)).build());
+        }
+
+        ReadOnlyAddressBook read = saveAndRead(original, 2);
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < 5; i++) {
+                assertEquals(original.getPersonList().get(i).getDayList().getVisitDates(),
+                        read.getPersonList().get(i).getDayList().getVisitDates());
+            }
+        }
+    }
+
+    @Test
+    public void readAddressBook_binaryFile_longHistoriesStoredOutOfMemory() throws Exception {
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < 5; i++) {
+            original.addPerson(new PersonBuilder().withName("Patient " + i)
+                    .withVisitDates(createVisitDates(LocalDate.of(2000 + i, 1, 1), 2 + 4 * i)).build());
+        }
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        binaryStorage.saveAddressBook(original);
+
+        ReadOnlyAddressBook read = new LazyVisitHistoryStorage(binaryStorage).readAddressBook().get();
+        for (int i = 0; i < 5; i++) {
+            DayList readDayList = read.getPersonList().get(i).getDayList();
+            assertEquals(readDayList.getVisitCount() > LazyVisitHistoryStorage.SPILL_THRESHOLD, readDayList.isStored());
+        }
+        assertEquals(original, new AddressBook(read));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("missing.json"));
+        assertFalse(new LazyVisitHistoryStorage(jsonStorage).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_storedHistories_copiedWithoutLoading() throws Exception {
+        CountingVisitHistoryStore store = new CountingVisitHistoryStore();
+        AddressBook original = new AddressBook();
+        AddressBook stored = new AddressBook();
+        for (int i = 0; i < 5; i++) {
+            Person person = new PersonBuilder().withName("Patient " + i)
+                    .withVisitDates(createVisitDates(LocalDate.of(2000 + i, 1, 1), 10 + i)).build();
+            original.addPerson(person);
+            stored.addPerson(person.withDayList(store.store(person.getDayList())));
+        }
+
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        Path binaryPath = testFolder.resolve("addressbook.bin");
+        new JournaledAddressBookStorage(new JsonAddressBookStorage(jsonPath)).saveAddressBook(stored);
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(stored);
+
+        assertEquals(0, store.getLoadCount());
+        assertEquals(10, store.getCopyCount());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(jsonPath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binaryPath).readAddressBook().get()));
+    }
+
+    private ReadOnlyAddressBook saveAndRead(AddressBook addressBook, int cacheSize) throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        jsonStorage.saveAddressBook(addressBook);
+        return new LazyVisitHistoryStorage(jsonStorage, cacheSize).readAddressBook().get();
+    }
+
+    private static String[] createVisitDates(LocalDate start, int count) {
+        List<String> visitDates = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            visitDates.add(start.plusWeeks(i).toString());
+        }
+        return visitDates.toArray(new String[0]);
+    }
+}
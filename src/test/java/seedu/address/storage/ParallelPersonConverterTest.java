@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+
+    private static final int BATCH_SIZE = 8;
+    private static final int PERSON_COUNT = 200;
+
+    // Worker threads of a ForkJoinPool are daemon threads, so the pool does not need to be shut down.
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @Test
+    public void finish_validPersons_addedInFileOrder() throws Exception {
+        List<Person> expected = new ArrayList<>();
+        ParallelPersonConverter converter = new ParallelPersonConverter(POOL, BATCH_SIZE);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            Person person = createPerson(i);
+            expected.add(person);
+            converter.add(new JsonAdaptedPerson(person));
+        }
+
+        AddressBook addressBook = converter.finish();
+        assertEquals(expected, addressBook.getPersonList());
+    }
+
+    @Test
+    public void finish_severalInvalidPersons_firstInFileOrderReported() {
+        List<JsonAdaptedPerson> persons = createValidPersons();
+        persons.set(150, invalidPhone(persons.get(150)));
+        persons.set(90, invalidName(persons.get(90)));
+        persons.set(190, invalidName(persons.get(190)));
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> convert(persons));
+    }
+
+    @Test
+    public void finish_duplicateBeforeInvalidPerson_duplicateReported() {
+        List<JsonAdaptedPerson> persons = createValidPersons();
+        persons.set(60, persons.get(10));
+        persons.set(61, invalidPhone(persons.get(61)));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                convert(persons));
+    }
+
+    @Test
+    public void finish_invalidPersonBeforeDuplicate_invalidPersonReported() {
+        List<JsonAdaptedPerson> persons = createValidPersons();
+        persons.set(60, invalidPhone(persons.get(60)));
+        persons.set(61, persons.get(10));
+
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () -> convert(persons));
+    }
+
+    private AddressBook convert(List<JsonAdaptedPerson> persons) throws IllegalValueException {
+        ParallelPersonConverter converter = new ParallelPersonConverter(POOL, BATCH_SIZE);
+        for (JsonAdaptedPerson person : persons) {
+            converter.add(person);
+        }
+        return converter.finish();
+    }
+
+    private static List<JsonAdaptedPerson> createValidPersons() {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new JsonAdaptedPerson(createPerson(i)));
+        }
+        return persons;
+    }
+
+    private static Person createPerson(int i) {
+        return new PersonBuilder().withName("Patient " + i).withPhone(String.format("9%07d", i)).build();
+    }
+
+    private static JsonAdaptedPerson invalidName(JsonAdaptedPerson person) {
+        return withNameAndPhone(person, "", null);
+    }
+
+    private static JsonAdaptedPerson invalidPhone(JsonAdaptedPerson person) {
+        return withNameAndPhone(person, null, "+651234");
+    }
+
+    private static JsonAdaptedPerson withNameAndPhone(JsonAdaptedPerson person, String name, String phone) {
+        try {
+            Person source = person.toModelType();
+            return new JsonAdaptedPerson(name != null ? name : source.getName().fullName,
+                    phone != null ? phone : source.getPhone().value, source.getEmail().value,
+                    source.getAddress().value, source.getDoctor().name, new ArrayList<>(), new ArrayList<>(),
+                    new JsonAdaptedDayList(source.getDayList()));
+        } catch (IllegalValueException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
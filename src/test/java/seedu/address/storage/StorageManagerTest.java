@@ -2,9 +2,20 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,4 +76,99 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void saveAddressBook_backgroundSave_burstMergedIntoLatestSnapshot() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        AtomicInteger writeCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (writeCount.incrementAndGet() == 1) {
+                    firstWriteStarted.countDown();
+                    try {
+                        releaseFirstWrite.await();
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager backgroundStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        backgroundStorage.saveAddressBook(addressBook);
+        firstWriteStarted.await();
+
+        // these saves arrive while the writer is busy and should be merged into one write
+        addressBook.addPerson(HOON);
+        backgroundStorage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        backgroundStorage.saveAddressBook(addressBook);
+
+        // the snapshot already taken is not affected by later changes
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.removePerson(IDA);
+
+        releaseFirstWrite.countDown();
+        backgroundStorage.flushAddressBook();
+
+        assertEquals(2, writeCount.get());
+        assertEquals(expected, new AddressBook(backgroundStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_firstBackgroundWriteFails_laterSaveWrittenWithoutFlush() throws Exception {
+        AtomicInteger writeCount = new AtomicInteger();
+        CountDownLatch written = new CountDownLatch(1);
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (writeCount.incrementAndGet() == 1) {
+                    throw new IOException("disk full");
+                }
+                super.saveAddressBook(addressBook, filePath);
+                written.countDown();
+            }
+        };
+        StorageManager backgroundStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        CountDownLatch failed = new CountDownLatch(1);
+        backgroundStorage.setSaveFailureHandler(e -> failed.countDown());
+
+        AddressBook addressBook = getTypicalAddressBook();
+        backgroundStorage.saveAddressBook(addressBook);
+        assertTrue(failed.await(10, TimeUnit.SECONDS));
+        addressBook.addPerson(HOON);
+        backgroundStorage.saveAddressBook(addressBook);
+
+        assertTrue(written.await(10, TimeUnit.SECONDS));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(getTempFilePath("ab"))
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_backgroundSaveFails_reportedToHandlerAndFlush() throws Exception {
+        IOException failure = new IOException("disk full");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        StorageManager backgroundStorage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        List<IOException> reported = new ArrayList<>();
+        backgroundStorage.setSaveFailureHandler(reported::add);
+
+        // the caller does not see the failure
+        backgroundStorage.saveAddressBook(getTypicalAddressBook());
+
+        assertSame(failure, assertThrows(IOException.class, backgroundStorage::flushAddressBook));
+        // the failed snapshot is retried by the flush, and reported each time it fails
+        assertEquals(List.of(failure, failure), reported);
+    }
+
 }
@@ -0,0 +1,46 @@
+package seedu.address.testutil;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.visit.DayList;
+import seedu.address.model.visit.VisitHistoryStore;
+
+/**
+ * An in-memory {@code VisitHistoryStore} that counts how often histories are loaded and copied.
+ */
+public class CountingVisitHistoryStore implements VisitHistoryStore {
+
+    private final Map<Long, int[]> histories = new HashMap<>();
+    private int loadCount;
+    private int copyCount;
+
+    /**
+     * Stores the visit dates of {@code dayList} and returns an equal DayList that reads them from this store.
+     */
+    public DayList store(DayList dayList) {
+        long key = histories.size();
+        histories.put(key, dayList.toEpochDays());
+        return DayList.stored(this, key, dayList);
+    }
+
+    @Override
+    public int[] load(long key) {
+        loadCount++;
+        return histories.get(key);
+    }
+
+    @Override
+    public int[] copy(long key) {
+        copyCount++;
+        return histories.get(key).clone();
+    }
+
+    public int getLoadCount() {
+        return loadCount;
+    }
+
+    public int getCopyCount() {
+        return copyCount;
+    }
+}
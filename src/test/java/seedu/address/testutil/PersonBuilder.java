@@ -1,8 +1,10 @@
 package seedu.address.testutil;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.model.medicine.Medicine;
 import seedu.address.model.person.Address;
@@ -32,6 +34,7 @@ public class PersonBuilder {
     private Doctor doctor;
     private Set<Tag> tags;
     private Set<Medicine> medicines;
+    private DayList dayList;
 
     /**
      * Creates a {@code PersonBuilder} with the default details.
@@ -116,11 +119,19 @@ public class PersonBuilder {
     }
 
     /**
-     * Builds a Person with the current values and today's date in the DayList.
+     * Sets the visit dates of the {@code Person} that we are building, given as ISO dates (e.g. 2024-01-31).
+     */
+    public PersonBuilder withVisitDates(String ... visitDates) {
+        this.dayList = new DayList(Arrays.stream(visitDates).map(LocalDate::parse).collect(Collectors.toList()));
+        return this;
+    }
+
+    /**
+     * Builds a Person with the current values. Unless visit dates were set, the DayList holds today's date.
      */
     public Person build() {
         return new Person(name, phone, email, address, doctor, tags, medicines,
-                new DayList().addVisitDate(LocalDate.now()));
+                dayList != null ? dayList : new DayList().addVisitDate(LocalDate.now()));
     }
 
 }